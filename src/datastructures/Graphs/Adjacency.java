@@ -0,0 +1,170 @@
+package datastructures.Graphs;
+
+import java.util.Arrays;
+
+import datastructures.HashTables.ObjectIntHashTable;
+
+/**
+ * The neighbors of one vertex in a Graph.
+ *
+ * Neighbors sit in an array so scans are sequential. Once a vertex has more
+ * than SMALL neighbors, a table from each neighbor to its position makes
+ * lookups O(1); removal moves the last neighbor into the hole, so it is O(1)
+ * too. Below that size a linear scan is faster than hashing and saves the
+ * table's memory on the many low-degree vertices.
+ *
+ * Edge weights are kept in a double array parallel to the neighbors, allocated
+ * only once some edge gets a weight other than 1.
+ */
+class Adjacency {
+
+    // Largest neighbor count handled without the position table.
+    private static final int SMALL = 8;
+
+    private String[] neighbors = new String[4];
+    private int size;
+
+    // Weight of the edge to each neighbor, or null while every weight is 1.
+    private double[] weights;
+
+    // Maps each neighbor to its position + 1, or null while size <= SMALL.
+    private ObjectIntHashTable<String> positions;
+
+    /**
+     * Returns the number of neighbors.
+     *
+     * @return The number of neighbors.
+     */
+    int size() {
+        return size;
+    }
+
+    /**
+     * Returns the neighbor at a position.
+     *
+     * @param index The position, from 0 to size() - 1.
+     * @return The neighbor.
+     */
+    String get(int index) {
+        return neighbors[index];
+    }
+
+    /**
+     * Returns the weight of the edge to the neighbor at a position.
+     *
+     * @param index The position, from 0 to size() - 1.
+     * @return The weight of the edge.
+     */
+    double weight(int index) {
+        return weights == null ? 1 : weights[index];
+    }
+
+    /**
+     * Finds the position of a neighbor.
+     *
+     * @param vertex The neighbor to look for.
+     * @return Its position, or -1 if it is not a neighbor.
+     */
+    int indexOf(String vertex) {
+        if (positions != null) {
+            return positions.get(vertex) - 1;
+        }
+        for (int i = 0; i < size; i++) {
+            if (neighbors[i].equals(vertex)) {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    /**
+     * Checks whether a vertex is a neighbor.
+     *
+     * @param vertex The vertex to look for.
+     * @return true if it is a neighbor, false otherwise.
+     */
+    boolean contains(String vertex) {
+        return indexOf(vertex) >= 0;
+    }
+
+    /**
+     * Adds a neighbor unless it is already there.
+     *
+     * @param vertex The neighbor to add.
+     * @param weight The weight of the edge to it.
+     * @return true if it was added, false if it was already a neighbor.
+     */
+    boolean add(String vertex, double weight) {
+        if (contains(vertex)) {
+            return false;
+        }
+        if (size == neighbors.length) {
+            neighbors = Arrays.copyOf(neighbors, size * 2);
+            if (weights != null) {
+                weights = Arrays.copyOf(weights, size * 2);
+            }
+        }
+        if (weight != 1 && weights == null) {
+            weights = new double[neighbors.length];
+            Arrays.fill(weights, 0, size, 1);
+        }
+        if (weights != null) {
+            weights[size] = weight;
+        }
+        neighbors[size++] = vertex;
+
+        if (positions != null) {
+            positions.set(vertex, size);
+        } else if (size > SMALL) {
+            positions = new ObjectIntHashTable<>();
+            for (int i = 0; i < size; i++) {
+                positions.set(neighbors[i], i + 1);
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Removes a neighbor by moving the last neighbor into its place.
+     *
+     * @param vertex The neighbor to remove.
+     * @return true if it was removed, false if it was not a neighbor.
+     */
+    boolean remove(String vertex) {
+        int index = indexOf(vertex);
+        if (index < 0) {
+            return false;
+        }
+        String last = neighbors[--size];
+        neighbors[index] = last;
+        neighbors[size] = null;
+        if (weights != null) {
+            weights[index] = weights[size];
+        }
+
+        if (positions != null) {
+            positions.remove(vertex);
+            if (index < size) {
+                positions.set(last, index + 1);
+            }
+        }
+        return true;
+    }
+
+    // Lists the neighbors like an ArrayList, with "=weight" after each once the
+    // edges carry weights.
+    @Override
+    public String toString() {
+        if (weights == null) {
+            return Arrays.toString(Arrays.copyOf(neighbors, size));
+        }
+        StringBuilder sb = new StringBuilder("[");
+        for (int i = 0; i < size; i++) {
+            if (i > 0) {
+                sb.append(", ");
+            }
+            sb.append(neighbors[i]).append('=').append(weights[i]);
+        }
+        return sb.append(']').toString();
+    }
+}
@@ -0,0 +1,459 @@
+package datastructures.Graphs;
+
+import java.util.Arrays;
+
+import datastructures.HashTables.ObjectIntHashTable;
+
+/**
+ * An immutable graph in compressed sparse row (CSR) form.
+ *
+ * Vertices are numbered 0 to vertexCount() - 1. The neighbors of vertex v are
+ * targets[offsets[v]] to targets[offsets[v + 1] - 1], so a neighbor scan reads
+ * one contiguous stretch of an int array instead of hashing Strings and
+ * following references into boxed lists. A name dictionary maps between the
+ * String names used by Graph and the int ids.
+ *
+ * Build one with Graph.freeze() or, for large inputs, directly with a Builder.
+ * Graphs too big for per-vertex names come from fromEdges(), whose vertices
+ * are simply called by their ids.
+ */
+public final class CsrGraph {
+
+    // Name of each vertex, indexed by id, or null if vertices are unnamed.
+    private final String[] names;
+
+    // Maps each name to its id + 1, so that the table's 0 for a missing key
+    // cannot be mistaken for vertex 0. Null if vertices are unnamed.
+    private final ObjectIntHashTable<String> ids;
+
+    // Start of each vertex's neighbors in targets, plus one final entry equal to
+    // targets.length. Package-private so traversals can scan it directly.
+    final int[] offsets;
+
+    // Neighbor ids of all vertices, grouped by source vertex.
+    final int[] targets;
+
+    // Weight of each edge, parallel to targets, or null if every edge has
+    // weight 1.
+    final double[] weights;
+
+    // Whether every edge was stored once (directed) or in both directions.
+    private final boolean directed;
+
+    private CsrGraph(String[] names, ObjectIntHashTable<String> ids, int[] offsets, int[] targets,
+            double[] weights, boolean directed) {
+        this.names = names;
+        this.ids = ids;
+        this.offsets = offsets;
+        this.targets = targets;
+        this.weights = weights;
+        this.directed = directed;
+    }
+
+    /**
+     * Builds a graph with unnamed vertices 0 to vertexCount - 1 straight from
+     * edge arrays, skipping the name dictionary. Meant for graphs with tens of
+     * millions of vertices, where a String per vertex would dominate memory.
+     *
+     * @param vertexCount  The number of vertices.
+     * @param sources      The first vertex of each edge.
+     * @param destinations The second vertex of each edge.
+     * @param directed     If false, each edge is also stored from its second
+     *                     vertex back to its first.
+     * @return The packed graph. Its vertices are named by their ids.
+     */
+    public static CsrGraph fromEdges(int vertexCount, int[] sources, int[] destinations, boolean directed) {
+        if (sources.length != destinations.length) {
+            throw new IllegalArgumentException("Edge arrays differ in length");
+        }
+        for (int e = 0; e < sources.length; e++) {
+            if (sources[e] < 0 || sources[e] >= vertexCount || destinations[e] < 0
+                    || destinations[e] >= vertexCount) {
+                throw new IllegalArgumentException("Unknown vertex id in edge " + e);
+            }
+        }
+        return pack(null, null, vertexCount, sources, destinations, null, sources.length, directed, !directed);
+    }
+
+    // Groups edgeCount edges by source with a counting sort in O(V + E). If
+    // mirror is set, every edge is also stored from its target back to its
+    // source. Edges are visited in the order given, so each neighbor list keeps
+    // that order.
+    private static CsrGraph pack(String[] names, ObjectIntHashTable<String> ids, int vertexCount, int[] sources,
+            int[] destinations, double[] edgeWeights, int edgeCount, boolean directed, boolean mirror) {
+        // Count the edges of each vertex, then turn the counts into start
+        // offsets with a prefix sum.
+        int[] offsets = new int[vertexCount + 1];
+        for (int e = 0; e < edgeCount; e++) {
+            offsets[sources[e] + 1]++;
+            if (mirror) {
+                offsets[destinations[e] + 1]++;
+            }
+        }
+        for (int v = 0; v < vertexCount; v++) {
+            offsets[v + 1] += offsets[v];
+        }
+        if (offsets[vertexCount] < 0) {
+            throw new IllegalArgumentException("Too many edges for an int-indexed graph");
+        }
+
+        // Drop every edge into the next free slot of its source.
+        int[] next = Arrays.copyOf(offsets, vertexCount);
+        int[] targets = new int[offsets[vertexCount]];
+        double[] weights = edgeWeights == null ? null : new double[targets.length];
+        for (int e = 0; e < edgeCount; e++) {
+            int slot = next[sources[e]]++;
+            targets[slot] = destinations[e];
+            if (weights != null) {
+                weights[slot] = edgeWeights[e];
+            }
+            if (mirror) {
+                slot = next[destinations[e]]++;
+                targets[slot] = sources[e];
+                if (weights != null) {
+                    weights[slot] = edgeWeights[e];
+                }
+            }
+        }
+        return new CsrGraph(names, ids, offsets, targets, weights, directed);
+    }
+
+    /**
+     * Returns the graph with every edge reversed, so that the neighbors of a
+     * vertex are the vertices with an edge into it. An undirected graph is its
+     * own transpose and is returned as is.
+     *
+     * @return The transposed graph, sharing this graph's vertex names.
+     */
+    public CsrGraph transpose() {
+        if (!directed) {
+            return this;
+        }
+        int vertexCount = vertexCount();
+        int[] reversedOffsets = new int[vertexCount + 1];
+        for (int target : targets) {
+            reversedOffsets[target + 1]++;
+        }
+        for (int v = 0; v < vertexCount; v++) {
+            reversedOffsets[v + 1] += reversedOffsets[v];
+        }
+
+        int[] next = Arrays.copyOf(reversedOffsets, vertexCount);
+        int[] reversedTargets = new int[targets.length];
+        double[] reversedWeights = weights == null ? null : new double[weights.length];
+        for (int v = 0; v < vertexCount; v++) {
+            for (int e = offsets[v]; e < offsets[v + 1]; e++) {
+                int slot = next[targets[e]]++;
+                reversedTargets[slot] = v;
+                if (reversedWeights != null) {
+                    reversedWeights[slot] = weights[e];
+                }
+            }
+        }
+        return new CsrGraph(names, ids, reversedOffsets, reversedTargets, reversedWeights, true);
+    }
+
+    /**
+     * Returns the number of vertices.
+     *
+     * @return The number of vertices.
+     */
+    public int vertexCount() {
+        return offsets.length - 1;
+    }
+
+    /**
+     * Returns the number of stored edges. An undirected edge is stored once in
+     * each direction and so counts twice.
+     *
+     * @return The length of the target array.
+     */
+    public int edgeCount() {
+        return targets.length;
+    }
+
+    /**
+     * Tells whether edges were added in one direction only.
+     *
+     * @return true for a directed graph, false for an undirected one.
+     */
+    public boolean isDirected() {
+        return directed;
+    }
+
+    /**
+     * Tells whether any edge was added with a weight.
+     *
+     * @return true if edges carry weights, false if they all weigh 1.
+     */
+    public boolean isWeighted() {
+        return weights != null;
+    }
+
+    /**
+     * Looks up the id of a vertex.
+     *
+     * @param name The name of the vertex.
+     * @return The id of the vertex, or -1 if there is no such vertex.
+     */
+    public int id(String name) {
+        if (names != null) {
+            return ids.get(name) - 1;
+        }
+        try {
+            int id = Integer.parseInt(name);
+            return id >= 0 && id < vertexCount() ? id : -1;
+        } catch (NumberFormatException e) {
+            return -1;
+        }
+    }
+
+    /**
+     * Returns the name of a vertex.
+     *
+     * @param id The id of the vertex.
+     * @return The name the vertex was added with.
+     */
+    public String name(int id) {
+        if (id < 0 || id >= vertexCount()) {
+            throw new IndexOutOfBoundsException("Vertex " + id);
+        }
+        return names == null ? Integer.toString(id) : names[id];
+    }
+
+    /**
+     * Returns the number of neighbors of a vertex.
+     *
+     * @param id The id of the vertex.
+     * @return The out-degree of the vertex.
+     */
+    public int degree(int id) {
+        return offsets[id + 1] - offsets[id];
+    }
+
+    /**
+     * Returns the neighbor at a position in the neighbor list of a vertex.
+     *
+     * @param id    The id of the vertex.
+     * @param index The position in its neighbor list, from 0 to degree(id) - 1.
+     * @return The id of the neighbor.
+     */
+    public int neighbor(int id, int index) {
+        if (index < 0 || index >= degree(id)) {
+            throw new IndexOutOfBoundsException("Neighbor " + index + " of vertex " + id);
+        }
+        return targets[offsets[id] + index];
+    }
+
+    /**
+     * Returns the weight of the edge to the neighbor at a position in the
+     * neighbor list of a vertex.
+     *
+     * @param id    The id of the vertex.
+     * @param index The position in its neighbor list, from 0 to degree(id) - 1.
+     * @return The weight of the edge, 1 if the graph is unweighted.
+     */
+    public double weight(int id, int index) {
+        if (index < 0 || index >= degree(id)) {
+            throw new IndexOutOfBoundsException("Neighbor " + index + " of vertex " + id);
+        }
+        return weights == null ? 1 : weights[offsets[id] + index];
+    }
+
+    /**
+     * Returns a copy of the neighbor ids of a vertex.
+     *
+     * @param id The id of the vertex.
+     * @return The neighbor ids in the order the edges were added.
+     */
+    public int[] neighbors(int id) {
+        return Arrays.copyOfRange(targets, offsets[id], offsets[id + 1]);
+    }
+
+    /**
+     * Prints the graph in the same form as Graph.printGraph.
+     */
+    public void printGraph() {
+        StringBuilder sb = new StringBuilder("{");
+        for (int v = 0; v < vertexCount(); v++) {
+            if (v > 0) {
+                sb.append(", ");
+            }
+            sb.append(name(v)).append("=[");
+            for (int e = offsets[v]; e < offsets[v + 1]; e++) {
+                if (e > offsets[v]) {
+                    sb.append(", ");
+                }
+                sb.append(name(targets[e]));
+            }
+            sb.append(']');
+        }
+        System.out.println(sb.append('}'));
+    }
+
+    /**
+     * Collects vertices and edges and packs them into a CsrGraph. Edges are kept
+     * in growable parallel arrays until build(), which groups them by source.
+     */
+    public static final class Builder {
+
+        private static final int INITIAL_CAPACITY = 16;
+
+        private final boolean directed;
+
+        private String[] names = new String[INITIAL_CAPACITY];
+        private final ObjectIntHashTable<String> ids = new ObjectIntHashTable<>();
+        private int vertexCount;
+
+        // Source, target and weight of every stored edge, in insertion order.
+        // The weights are only allocated once the first weighted edge arrives.
+        private int[] sources = new int[INITIAL_CAPACITY];
+        private int[] destinations = new int[INITIAL_CAPACITY];
+        private double[] edgeWeights;
+        private int edgeCount;
+
+        /**
+         * Creates a builder for an undirected graph, like Graph.
+         */
+        public Builder() {
+            this(false);
+        }
+
+        /**
+         * Creates a builder.
+         *
+         * @param directed If true, addEdge stores only the edge from the first
+         *                 vertex to the second.
+         */
+        public Builder(boolean directed) {
+            this.directed = directed;
+        }
+
+        /**
+         * Adds a vertex, or finds it if it was added before.
+         *
+         * @param name The name of the vertex.
+         * @return The id of the vertex.
+         */
+        public int addVertex(String name) {
+            int id = ids.get(name) - 1;
+            if (id >= 0) {
+                return id;
+            }
+            if (vertexCount == names.length) {
+                names = Arrays.copyOf(names, grow(names.length));
+            }
+            id = vertexCount++;
+            names[id] = name;
+            ids.set(name, id + 1);
+            return id;
+        }
+
+        /**
+         * Adds an edge between two vertices, adding the vertices if needed.
+         *
+         * @param vertex1 The first vertex of the edge.
+         * @param vertex2 The second vertex of the edge.
+         */
+        public void addEdge(String vertex1, String vertex2) {
+            addEdge(addVertex(vertex1), addVertex(vertex2));
+        }
+
+        /**
+         * Adds an edge between two vertices that were already added.
+         *
+         * @param id1 The id of the first vertex.
+         * @param id2 The id of the second vertex.
+         */
+        public void addEdge(int id1, int id2) {
+            addEdge(id1, id2, 1);
+        }
+
+        /**
+         * Adds a weighted edge between two vertices, adding the vertices if
+         * needed.
+         *
+         * @param vertex1 The first vertex of the edge.
+         * @param vertex2 The second vertex of the edge.
+         * @param weight  The weight of the edge. Must not be negative or NaN.
+         * @throws IllegalArgumentException if the weight is negative or NaN.
+         */
+        public void addEdge(String vertex1, String vertex2, double weight) {
+            checkWeight(weight);
+            addEdge(addVertex(vertex1), addVertex(vertex2), weight);
+        }
+
+        /**
+         * Adds a weighted edge between two vertices that were already added.
+         *
+         * @param id1    The id of the first vertex.
+         * @param id2    The id of the second vertex.
+         * @param weight The weight of the edge. Must not be negative or NaN.
+         * @throws IllegalArgumentException if a vertex is unknown or the weight
+         *                                  is negative or NaN.
+         */
+        public void addEdge(int id1, int id2, double weight) {
+            if (id1 < 0 || id1 >= vertexCount || id2 < 0 || id2 >= vertexCount) {
+                throw new IllegalArgumentException("Unknown vertex id: " + id1 + " or " + id2);
+            }
+            checkWeight(weight);
+            addArc(id1, id2, weight);
+            if (!directed) {
+                addArc(id2, id1, weight);
+            }
+        }
+
+        // Rejects weights that shortest-path searches cannot handle, the same
+        // way Graph.addEdge does.
+        private static void checkWeight(double weight) {
+            if (!(weight >= 0)) {
+                throw new IllegalArgumentException("Illegal edge weight: " + weight);
+            }
+        }
+
+        /**
+         * Stores a single edge from source to target.
+         */
+        void addArc(int source, int target, double weight) {
+            if (edgeCount == sources.length) {
+                int capacity = grow(sources.length);
+                sources = Arrays.copyOf(sources, capacity);
+                destinations = Arrays.copyOf(destinations, capacity);
+                if (edgeWeights != null) {
+                    edgeWeights = Arrays.copyOf(edgeWeights, capacity);
+                }
+            }
+            if (weight != 1 && edgeWeights == null) {
+                edgeWeights = new double[sources.length];
+                Arrays.fill(edgeWeights, 0, edgeCount, 1);
+            }
+            sources[edgeCount] = source;
+            destinations[edgeCount] = target;
+            if (edgeWeights != null) {
+                edgeWeights[edgeCount] = weight;
+            }
+            edgeCount++;
+        }
+
+        private static int grow(int length) {
+            int capacity = length + (length >> 1) + 1;
+            return capacity < 0 ? Integer.MAX_VALUE - 8 : capacity;
+        }
+
+        /**
+         * Packs everything added so far into a CsrGraph. The builder can keep
+         * being used afterwards.
+         *
+         * @return The frozen graph.
+         */
+        public CsrGraph build() {
+            ObjectIntHashTable<String> frozenIds = new ObjectIntHashTable<>(vertexCount * 2, 0.5f);
+            for (int v = 0; v < vertexCount; v++) {
+                frozenIds.set(names[v], v + 1);
+            }
+            // addEdge already stored undirected edges from both ends.
+            return pack(Arrays.copyOf(names, vertexCount), frozenIds, vertexCount, sources, destinations,
+                    edgeWeights, edgeCount, directed, false);
+        }
+    }
+}
@@ -1,14 +1,50 @@
 package datastructures.Graphs;
 
 // Required imports
-import java.util.ArrayList;
 import java.util.HashMap;
 
 public class Graph {
     // The adjacency list representation of the graph.
-    // It uses a HashMap where the key is a vertex and the value is a list of its
-    // neighboring vertices.
-    private HashMap<String, ArrayList<String>> adjList = new HashMap<>();
+    // It uses a HashMap where the key is a vertex and the value is the set of its
+    // neighboring vertices. Adjacency finds, adds and removes a neighbor in O(1)
+    // and never holds the same neighbor twice.
+    // In a directed graph it holds each vertex's outgoing edges only.
+    private HashMap<String, Adjacency> adjList = new HashMap<>();
+
+    // For a directed graph, the vertices with an edge into each vertex, so that
+    // removeVertex can find them without scanning the whole graph. Null for an
+    // undirected graph, where adjList already has both directions.
+    private final HashMap<String, Adjacency> incoming;
+
+    // Whether edges go one way only.
+    private final boolean directed;
+
+    /**
+     * Creates an empty undirected graph.
+     */
+    public Graph() {
+        this(false);
+    }
+
+    /**
+     * Creates an empty graph.
+     *
+     * @param directed If true, an edge from vertex1 to vertex2 does not connect
+     *                 vertex2 back to vertex1.
+     */
+    public Graph(boolean directed) {
+        this.directed = directed;
+        this.incoming = directed ? new HashMap<>() : null;
+    }
+
+    /**
+     * Tells whether edges go one way only.
+     *
+     * @return true for a directed graph, false for an undirected one.
+     */
+    public boolean isDirected() {
+        return directed;
+    }
 
     // Method to print the graph's adjacency list representation
     public void printGraph() {
@@ -28,7 +64,10 @@ public class Graph {
         if (adjList.get(vertex) == null) {
             // If it doesn't exist, add it to the adjacency list with an empty neighbors
             // list
-            adjList.put(vertex, new ArrayList<String>());
+            adjList.put(vertex, new Adjacency());
+            if (directed) {
+                incoming.put(vertex, new Adjacency());
+            }
             return true; // Return true indicating successful addition
         }
         // If the vertex already exists, return false
@@ -36,21 +75,47 @@ public class Graph {
     }
 
     /**
-     * Adds an edge between two vertices in the graph.
+     * Adds an edge of weight 1 between two vertices in the graph.
      *
      * @param vertex1 The first vertex of the edge.
      * @param vertex2 The second vertex of the edge.
      * @return true if the edge is successfully added (i.e., both vertices exist in
-     *         the graph),
+     *         the graph and were not connected yet),
      *         false otherwise.
      */
     public boolean addEdge(String vertex1, String vertex2) {
+        return addEdge(vertex1, vertex2, 1);
+    }
+
+    /**
+     * Adds a weighted edge between two vertices in the graph. In a directed graph
+     * the edge goes from vertex1 to vertex2.
+     *
+     * @param vertex1 The first vertex of the edge.
+     * @param vertex2 The second vertex of the edge.
+     * @param weight  The weight of the edge, stored next to the neighbor. Must
+     *                not be negative or NaN.
+     * @return true if the edge is successfully added (i.e., both vertices exist in
+     *         the graph and were not connected yet),
+     *         false otherwise.
+     * @throws IllegalArgumentException if the weight is negative or NaN.
+     */
+    public boolean addEdge(String vertex1, String vertex2, double weight) {
+        // Reject weights that shortest-path searches cannot handle now rather
+        // than when the graph is first searched
+        if (!(weight >= 0)) {
+            throw new IllegalArgumentException("Illegal edge weight: " + weight);
+        }
+        Adjacency neighbors1 = adjList.get(vertex1);
+        Adjacency neighbors2 = directed ? incoming.get(vertex2) : adjList.get(vertex2);
         // Check if both vertices exist in the graph's adjacency list
-        if (adjList.get(vertex1) != null && adjList.get(vertex2) != null) {
+        if (neighbors1 != null && neighbors2 != null) {
             // If both vertices exist, add the edge by adding each vertex to the other's
-            // neighbors list
-            adjList.get(vertex1).add(vertex2);
-            adjList.get(vertex2).add(vertex1);
+            // neighbors. An existing edge is left alone rather than duplicated.
+            if (!neighbors1.add(vertex2, weight)) {
+                return false;
+            }
+            neighbors2.add(vertex1, weight);
             return true; // Return true indicating successful edge addition
         }
         // If one or both of the vertices do not exist, return false
@@ -58,7 +123,34 @@ public class Graph {
     }
 
     /**
-     * Removes an edge between two vertices in the graph.
+     * Checks whether two vertices are connected by an edge. In a directed graph
+     * the edge must go from vertex1 to vertex2.
+     *
+     * @param vertex1 The first vertex of the edge.
+     * @param vertex2 The second vertex of the edge.
+     * @return true if both vertices exist and are connected, false otherwise.
+     */
+    public boolean hasEdge(String vertex1, String vertex2) {
+        Adjacency neighbors1 = adjList.get(vertex1);
+        return neighbors1 != null && neighbors1.contains(vertex2);
+    }
+
+    /**
+     * Returns the weight of the edge between two vertices.
+     *
+     * @param vertex1 The first vertex of the edge.
+     * @param vertex2 The second vertex of the edge.
+     * @return The weight of the edge, or NaN if there is no such edge.
+     */
+    public double getWeight(String vertex1, String vertex2) {
+        Adjacency neighbors1 = adjList.get(vertex1);
+        int index = neighbors1 == null ? -1 : neighbors1.indexOf(vertex2);
+        return index < 0 ? Double.NaN : neighbors1.weight(index);
+    }
+
+    /**
+     * Removes an edge between two vertices in the graph. In a directed graph
+     * this is the edge from vertex1 to vertex2.
      *
      * @param vertex1 The first vertex of the edge.
      * @param vertex2 The second vertex of the edge.
@@ -67,12 +159,16 @@ public class Graph {
      *         and are connected), false otherwise.
      */
     public boolean removeEdge(String vertex1, String vertex2) {
+        Adjacency neighbors1 = adjList.get(vertex1);
+        Adjacency neighbors2 = directed ? incoming.get(vertex2) : adjList.get(vertex2);
         // Check if both vertices exist in the graph's adjacency list
-        if (adjList.containsKey(vertex1) && adjList.containsKey(vertex2)) {
+        if (neighbors1 != null && neighbors2 != null) {
             // If both vertices exist, remove the edge by removing each vertex
-            // from the other's neighbors list
-            adjList.get(vertex1).remove(vertex2);
-            adjList.get(vertex2).remove(vertex1);
+            // from the other's neighbors, in O(1) each
+            if (!neighbors1.remove(vertex2)) {
+                return false;
+            }
+            neighbors2.remove(vertex1);
             return true; // Return true indicating successful edge removal
         }
         // If one or both of the vertices do not exist or aren't connected, return false
@@ -98,10 +194,14 @@ public class Graph {
             return false;
         }
 
-        // For each vertex that is connected to the given vertex
-        for (String otherVertex : adjList.get(vertex)) {
-            // Remove the given vertex from the neighbors list of other vertices
-            adjList.get(otherVertex).remove(vertex);
+        // For each vertex that is connected to the given vertex, remove the given
+        // vertex from the other vertex's neighbors, in O(1) each. In a directed
+        // graph, outgoing edges are recorded in the targets' incoming lists and
+        // incoming edges in the sources' adjacency lists.
+        unlinkAll(vertex, adjList.get(vertex), directed ? incoming : adjList);
+        if (directed) {
+            unlinkAll(vertex, incoming.get(vertex), adjList);
+            incoming.remove(vertex);
         }
 
         // Remove the vertex from the adjacency list
@@ -110,4 +210,48 @@ public class Graph {
         // Return true indicating successful vertex removal
         return true;
     }
+
+    /**
+     * Removes a vertex from the neighbors of each of the given vertices. A
+     * self-loop goes away with the vertex itself.
+     *
+     * @param vertex    The vertex being removed.
+     * @param neighbors The vertices that list it.
+     * @param lists     The map holding those vertices' lists.
+     */
+    private void unlinkAll(String vertex, Adjacency neighbors, HashMap<String, Adjacency> lists) {
+        for (int i = 0; i < neighbors.size(); i++) {
+            String otherVertex = neighbors.get(i);
+            if (!otherVertex.equals(vertex)) {
+                lists.get(otherVertex).remove(vertex);
+            }
+        }
+    }
+
+    /**
+     * Makes an immutable, int-indexed copy of the graph in compressed sparse
+     * row form, with edge weights in an array parallel to the neighbors. Later
+     * changes to this graph do not affect the copy.
+     *
+     * @return A CsrGraph with the same vertices, edges, weights and direction.
+     */
+    public CsrGraph freeze() {
+        CsrGraph.Builder builder = new CsrGraph.Builder(directed);
+
+        // Number all vertices first so every edge can be added by id.
+        for (String vertex : adjList.keySet()) {
+            builder.addVertex(vertex);
+        }
+
+        // In an undirected graph each neighbor list already holds both
+        // directions of every edge, so copy its entries one way only.
+        for (String vertex : adjList.keySet()) {
+            int id = builder.addVertex(vertex);
+            Adjacency neighbors = adjList.get(vertex);
+            for (int i = 0; i < neighbors.size(); i++) {
+                builder.addArc(id, builder.addVertex(neighbors.get(i)), neighbors.weight(i));
+            }
+        }
+        return builder.build();
+    }
 }
@@ -0,0 +1,399 @@
+package datastructures.Graphs;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.function.IntConsumer;
+import java.util.function.IntToDoubleFunction;
+
+/**
+ * Traversals and shortest paths over a CsrGraph.
+ *
+ * All working memory (the visited bitset, the queue or stack, parents,
+ * distances and the priority queue for Dijkstra) is allocated once for the
+ * graph and reused, so repeated queries allocate nothing. After a query,
+ * distance() and path() report on the vertices it reached.
+ *
+ * A GraphSearch is not thread-safe; give each thread its own.
+ */
+public class GraphSearch {
+
+    private final CsrGraph graph;
+
+    // One bit per vertex, set once the current query has reached it.
+    private final long[] visited;
+
+    // BFS queue or DFS stack of vertex ids.
+    private final int[] frontier;
+
+    // For DFS, the next edge to follow from each vertex on the stack.
+    private final int[] nextEdge;
+
+    // Vertex each reached vertex was reached from, -1 for the source.
+    private final int[] parent;
+
+    // Hops or weighted distance from the source to each reached vertex.
+    private final double[] distance;
+
+    // Binary min-heap of vertex ids for Dijkstra and A*, ordered by priority,
+    // with the position of each vertex in it or -1.
+    private final int[] heap;
+    private final int[] heapIndex;
+    private final double[] priority;
+    private int heapSize;
+
+    /**
+     * Allocates the working memory for searches over the given graph.
+     *
+     * @param graph The graph to search.
+     */
+    public GraphSearch(CsrGraph graph) {
+        int n = graph.vertexCount();
+        this.graph = graph;
+        this.visited = new long[(n + 63) >>> 6];
+        this.frontier = new int[n];
+        this.nextEdge = new int[n];
+        this.parent = new int[n];
+        this.distance = new double[n];
+        this.heap = new int[n];
+        this.heapIndex = new int[n];
+        this.priority = new double[n];
+        Arrays.fill(heapIndex, -1);
+    }
+
+    /**
+     * Returns the graph this engine searches.
+     *
+     * @return The graph passed to the constructor.
+     */
+    public CsrGraph graph() {
+        return graph;
+    }
+
+    private boolean isVisited(int v) {
+        return (visited[v >>> 6] & (1L << v)) != 0;
+    }
+
+    private void markVisited(int v) {
+        visited[v >>> 6] |= 1L << v;
+    }
+
+    // Clears the state of the previous query and makes source the only reached
+    // vertex.
+    private void start(int source) {
+        if (source < 0 || source >= graph.vertexCount()) {
+            throw new IllegalArgumentException("Unknown vertex id: " + source);
+        }
+        Arrays.fill(visited, 0);
+        for (int i = 0; i < heapSize; i++) {
+            heapIndex[heap[i]] = -1;
+        }
+        heapSize = 0;
+
+        markVisited(source);
+        parent[source] = -1;
+        distance[source] = 0;
+    }
+
+    private void checkTarget(int target) {
+        if (target < -1 || target >= graph.vertexCount()) {
+            throw new IllegalArgumentException("Unknown vertex id: " + target);
+        }
+    }
+
+    /**
+     * Visits every vertex reachable from source in breadth-first order.
+     *
+     * @param source  The id of the vertex to start from.
+     * @param visitor Called with the id of each vertex as it is dequeued.
+     * @return The number of vertices visited.
+     */
+    public int bfs(int source, IntConsumer visitor) {
+        return bfs(source, -1, visitor);
+    }
+
+    // Breadth-first search that stops once target is reached, or runs to the end
+    // if target is -1. Returns the number of vertices dequeued.
+    private int bfs(int source, int target, IntConsumer visitor) {
+        start(source);
+        int[] offsets = graph.offsets;
+        int[] targets = graph.targets;
+
+        int head = 0;
+        int tail = 0;
+        frontier[tail++] = source;
+        while (head < tail) {
+            int v = frontier[head++];
+            if (visitor != null) {
+                visitor.accept(v);
+            }
+            if (v == target) {
+                break;
+            }
+            for (int e = offsets[v]; e < offsets[v + 1]; e++) {
+                int w = targets[e];
+                if (!isVisited(w)) {
+                    markVisited(w);
+                    parent[w] = v;
+                    distance[w] = distance[v] + 1;
+                    frontier[tail++] = w;
+                }
+            }
+        }
+        return head;
+    }
+
+    /**
+     * Visits every vertex reachable from source in depth-first preorder, the
+     * same order a recursive DFS would produce, using an explicit stack.
+     *
+     * @param source  The id of the vertex to start from.
+     * @param visitor Called with the id of each vertex when it is first reached.
+     * @return The number of vertices visited.
+     */
+    public int dfs(int source, IntConsumer visitor) {
+        start(source);
+        int[] offsets = graph.offsets;
+        int[] targets = graph.targets;
+
+        int count = 1;
+        int top = 0;
+        frontier[0] = source;
+        nextEdge[0] = offsets[source];
+        visitor.accept(source);
+        while (top >= 0) {
+            int v = frontier[top];
+            int e = nextEdge[top];
+            if (e == offsets[v + 1]) {
+                top--;
+                continue;
+            }
+            nextEdge[top] = e + 1;
+
+            int w = targets[e];
+            if (!isVisited(w)) {
+                markVisited(w);
+                parent[w] = v;
+                distance[w] = distance[v] + 1;
+                visitor.accept(w);
+                count++;
+                top++;
+                frontier[top] = w;
+                nextEdge[top] = offsets[w];
+            }
+        }
+        return count;
+    }
+
+    /**
+     * Finds the smallest number of edges on a path from source to target,
+     * ignoring weights.
+     *
+     * @param source The id of the start vertex.
+     * @param target The id of the end vertex.
+     * @return The number of edges on a shortest path, or -1 if target cannot be
+     *         reached.
+     */
+    public int hops(int source, int target) {
+        if (target < 0 || target >= graph.vertexCount()) {
+            throw new IllegalArgumentException("Unknown vertex id: " + target);
+        }
+        bfs(source, target, null);
+        return isVisited(target) ? (int) distance[target] : -1;
+    }
+
+    /**
+     * Finds the weight of a lightest path from source to target with Dijkstra's
+     * algorithm. Edge weights must not be negative or NaN.
+     *
+     * @param source The id of the start vertex.
+     * @param target The id of the end vertex, or -1 to compute distances to
+     *               every reachable vertex.
+     * @return The total weight of a lightest path, or infinity if target cannot
+     *         be reached.
+     */
+    public double dijkstra(int source, int target) {
+        return aStar(source, target, null);
+    }
+
+    /**
+     * Finds the weight of a lightest path from source to target with A*. The
+     * heuristic estimates the remaining weight from a vertex to target and must
+     * never overestimate it, nor drop by more than an edge's weight along that
+     * edge, or the result may not be the lightest path.
+     *
+     * @param source    The id of the start vertex.
+     * @param target    The id of the end vertex, or -1 to search everything.
+     * @param heuristic Lower bound on the distance from a vertex id to target,
+     *                  or null to run plain Dijkstra.
+     * @return The total weight of a lightest path, or infinity if target cannot
+     *         be reached.
+     */
+    public double aStar(int source, int target, IntToDoubleFunction heuristic) {
+        checkTarget(target);
+        start(source);
+        int[] offsets = graph.offsets;
+        int[] targets = graph.targets;
+        double[] weights = graph.weights;
+
+        push(source, estimate(source, heuristic));
+        while (heapSize > 0) {
+            int v = pop();
+            if (v == target) {
+                return distance[v];
+            }
+            for (int e = offsets[v]; e < offsets[v + 1]; e++) {
+                double weight = weights == null ? 1 : weights[e];
+                if (!(weight >= 0)) {
+                    throw new IllegalArgumentException("Illegal edge weight " + weight + " from vertex " + v);
+                }
+                int w = targets[e];
+                double newDistance = distance[v] + weight;
+                if (!isVisited(w)) {
+                    markVisited(w);
+                    parent[w] = v;
+                    distance[w] = newDistance;
+                    push(w, newDistance + estimate(w, heuristic));
+                } else if (newDistance < distance[w]) {
+                    parent[w] = v;
+                    distance[w] = newDistance;
+                    double newPriority = newDistance + estimate(w, heuristic);
+                    if (heapIndex[w] >= 0) {
+                        priority[w] = newPriority;
+                        siftUp(heapIndex[w]);
+                    } else {
+                        push(w, newPriority);
+                    }
+                }
+            }
+        }
+        return target < 0 || !isVisited(target) ? Double.POSITIVE_INFINITY : distance[target];
+    }
+
+    private static double estimate(int v, IntToDoubleFunction heuristic) {
+        return heuristic == null ? 0 : heuristic.applyAsDouble(v);
+    }
+
+    private void push(int v, double key) {
+        priority[v] = key;
+        heap[heapSize] = v;
+        heapIndex[v] = heapSize;
+        siftUp(heapSize++);
+    }
+
+    private int pop() {
+        int top = heap[0];
+        heapIndex[top] = -1;
+        int last = heap[--heapSize];
+        if (heapSize > 0) {
+            heap[0] = last;
+            heapIndex[last] = 0;
+            sinkDown(0);
+        }
+        return top;
+    }
+
+    private void siftUp(int index) {
+        int v = heap[index];
+        while (index > 0) {
+            int parentIndex = (index - 1) >>> 1;
+            int p = heap[parentIndex];
+            if (priority[p] <= priority[v]) {
+                break;
+            }
+            heap[index] = p;
+            heapIndex[p] = index;
+            index = parentIndex;
+        }
+        heap[index] = v;
+        heapIndex[v] = index;
+    }
+
+    private void sinkDown(int index) {
+        int v = heap[index];
+        while (true) {
+            int child = 2 * index + 1;
+            if (child >= heapSize) {
+                break;
+            }
+            if (child + 1 < heapSize && priority[heap[child + 1]] < priority[heap[child]]) {
+                child++;
+            }
+            if (priority[v] <= priority[heap[child]]) {
+                break;
+            }
+            heap[index] = heap[child];
+            heapIndex[heap[index]] = index;
+            index = child;
+        }
+        heap[index] = v;
+        heapIndex[v] = index;
+    }
+
+    /**
+     * Returns the distance the last query found to a vertex: hops for bfs, dfs
+     * and hops, total weight for dijkstra and aStar. A query that stopped at
+     * its target may not have settled other vertices yet.
+     *
+     * @param id The id of the vertex.
+     * @return The distance, or infinity if the last query did not reach it.
+     */
+    public double distance(int id) {
+        return isVisited(id) ? distance[id] : Double.POSITIVE_INFINITY;
+    }
+
+    /**
+     * Returns the path the last query took from its source to a vertex. After
+     * hops, dijkstra or aStar this is a shortest path.
+     *
+     * @param id The id of the end vertex.
+     * @return The vertex ids from source to id, or null if the last query did not
+     *         reach it.
+     */
+    public int[] path(int id) {
+        if (!isVisited(id)) {
+            return null;
+        }
+        int length = 0;
+        for (int v = id; v != -1; v = parent[v]) {
+            length++;
+        }
+        int[] path = new int[length];
+        for (int v = id; v != -1; v = parent[v]) {
+            path[--length] = v;
+        }
+        return path;
+    }
+
+    /**
+     * Finds a lightest path between two named vertices, with Dijkstra's
+     * algorithm if the graph is weighted and breadth-first search otherwise.
+     *
+     * @param from The name of the start vertex.
+     * @param to   The name of the end vertex.
+     * @return The names of the vertices on the path, or null if either vertex
+     *         does not exist or to cannot be reached.
+     */
+    public List<String> shortestPath(String from, String to) {
+        int source = graph.id(from);
+        int target = graph.id(to);
+        if (source < 0 || target < 0) {
+            return null;
+        }
+        if (graph.isWeighted()) {
+            dijkstra(source, target);
+        } else {
+            hops(source, target);
+        }
+
+        int[] ids = path(target);
+        if (ids == null) {
+            return null;
+        }
+        List<String> names = new ArrayList<>(ids.length);
+        for (int id : ids) {
+            names.add(graph.name(id));
+        }
+        return names;
+    }
+}
@@ -12,9 +12,29 @@ public class Main {
 
         myGraph.printGraph();
 
+        // Frozen copy with int ids and flat neighbor arrays.
+        CsrGraph frozen = myGraph.freeze();
+        frozen.printGraph();
+
+        // Shortest path over the frozen copy.
+        GraphSearch search = new GraphSearch(frozen);
+        System.out.println(search.shortestPath("A", "B"));
+
         myGraph.removeVertex("A");
 
         myGraph.printGraph();
+
+        // Directed graph with weighted edges, searched after freezing.
+        Graph roads = new Graph(true);
+        roads.addVertex("X");
+        roads.addVertex("Y");
+        roads.addVertex("Z");
+        roads.addEdge("X", "Y", 4);
+        roads.addEdge("X", "Z", 1);
+        roads.addEdge("Z", "Y", 2);
+        roads.printGraph();
+
+        System.out.println(new GraphSearch(roads.freeze()).shortestPath("X", "Y"));
     }
 
 }
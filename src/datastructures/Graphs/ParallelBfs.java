@@ -0,0 +1,367 @@
+package datastructures.Graphs;
+
+import java.util.Arrays;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Level-synchronous breadth-first search over a CsrGraph on a ForkJoinPool,
+ * using Beamer's direction-optimizing scheme.
+ *
+ * Each level is expanded either top-down, where the frontier is split into
+ * chunks and every chunk claims its unvisited neighbors through an atomic
+ * visited bitmap, or bottom-up, where the unvisited vertices are split into
+ * chunks and each one looks for any parent in the frontier and stops at the
+ * first. Top-down is cheap while the frontier is small; once the frontier's
+ * edges outnumber the unexplored edges by a factor of ALPHA, bottom-up checks
+ * far fewer edges, which happens for a few middle levels of power-law graphs.
+ * The search switches back once the frontier is shrinking and has dropped below
+ * 1/BETA of the vertices.
+ *
+ * Results stay available through depth() and parent() until the next search.
+ * A ParallelBfs runs one search at a time.
+ */
+public class ParallelBfs {
+
+    // Switch to bottom-up when frontier edges exceed unexplored edges / ALPHA.
+    private static final int ALPHA = 14;
+
+    // Switch back to top-down when a shrinking frontier drops below
+    // vertices / BETA.
+    private static final int BETA = 24;
+
+    // Frontier vertices per top-down task.
+    private static final int TOP_DOWN_GRAIN = 1024;
+
+    // Discoveries a top-down task buffers before reserving a block of next.
+    private static final int TOP_DOWN_BLOCK = 256;
+
+    // Vertices per bottom-up task, a multiple of 64 so that no two tasks share
+    // a bitmap word.
+    private static final int BOTTOM_UP_GRAIN = 64 * 64;
+
+    private final CsrGraph graph;
+
+    // Incoming edges for bottom-up steps: the graph itself if undirected.
+    private final CsrGraph reverse;
+
+    private final ForkJoinPool pool;
+
+    // One bit per vertex, set once the vertex has been reached.
+    private final AtomicLongArray visited;
+
+    // Frontier as a bitmap, for bottom-up steps.
+    private long[] frontierBits;
+    private long[] nextBits;
+
+    // Frontier as a list of vertex ids, for top-down steps.
+    private int[] frontier;
+    private int[] next;
+    private final AtomicInteger nextSize = new AtomicInteger();
+
+    // Per-thread buffer of top-down discoveries, reused across tasks and levels.
+    private final ThreadLocal<int[]> buffers = ThreadLocal.withInitial(() -> new int[TOP_DOWN_BLOCK]);
+
+    // Vertices and their out-edges added to the next frontier in one step.
+    private final LongAdder added = new LongAdder();
+    private final LongAdder addedEdges = new LongAdder();
+
+    private final int[] depth;
+    private final int[] parent;
+
+    private int topDownSteps;
+    private int bottomUpSteps;
+
+    /**
+     * Prepares a search over the given graph on the common fork-join pool.
+     *
+     * @param graph The graph to search.
+     */
+    public ParallelBfs(CsrGraph graph) {
+        this(graph, ForkJoinPool.commonPool());
+    }
+
+    /**
+     * Prepares a search over the given graph on the given pool. For a directed
+     * graph this builds its transpose, which bottom-up steps need.
+     *
+     * @param graph The graph to search.
+     * @param pool  The pool to run level expansions on.
+     */
+    public ParallelBfs(CsrGraph graph, ForkJoinPool pool) {
+        int n = graph.vertexCount();
+        this.graph = graph;
+        this.reverse = graph.transpose();
+        this.pool = pool;
+        this.visited = new AtomicLongArray((n + 63) >>> 6);
+        this.frontierBits = new long[(n + 63) >>> 6];
+        this.nextBits = new long[(n + 63) >>> 6];
+        this.frontier = new int[n];
+        this.next = new int[n];
+        this.depth = new int[n];
+        this.parent = new int[n];
+    }
+
+    /**
+     * Runs a breadth-first search from source.
+     *
+     * @param source The id of the start vertex.
+     * @return The number of vertices reached, including source.
+     */
+    public int search(int source) {
+        int n = graph.vertexCount();
+        if (source < 0 || source >= n) {
+            throw new IllegalArgumentException("Unknown vertex id: " + source);
+        }
+        for (int i = 0; i < visited.length(); i++) {
+            visited.set(i, 0);
+        }
+        Arrays.fill(depth, -1);
+        Arrays.fill(parent, -1);
+        topDownSteps = 0;
+        bottomUpSteps = 0;
+
+        visited.set(source >>> 6, 1L << source);
+        depth[source] = 0;
+        frontier[0] = source;
+        int frontierSize = 1;
+        int previousSize = 0;
+        long frontierEdges = graph.degree(source);
+        long unexploredEdges = graph.edgeCount() - frontierEdges;
+        boolean bottomUp = false;
+        int reached = 1;
+
+        for (int level = 0; frontierSize > 0; level++) {
+            if (!bottomUp && frontierEdges > unexploredEdges / ALPHA) {
+                bottomUp = true;
+                toBitmap(frontierSize);
+            } else if (bottomUp && frontierSize < previousSize && frontierSize < n / BETA) {
+                bottomUp = false;
+                frontierSize = toList();
+            }
+
+            added.reset();
+            addedEdges.reset();
+            if (bottomUp) {
+                bottomUpSteps++;
+                Arrays.fill(nextBits, 0);
+                pool.invoke(new BottomUpTask(0, n, level));
+                long[] swap = frontierBits;
+                frontierBits = nextBits;
+                nextBits = swap;
+            } else {
+                topDownSteps++;
+                nextSize.set(0);
+                pool.invoke(new TopDownTask(0, frontierSize, level));
+                int[] swap = frontier;
+                frontier = next;
+                next = swap;
+            }
+
+            previousSize = frontierSize;
+            frontierSize = (int) added.sum();
+            frontierEdges = addedEdges.sum();
+            unexploredEdges -= frontierEdges;
+            reached += frontierSize;
+        }
+        return reached;
+    }
+
+    // Turns the list frontier into the bitmap frontier.
+    private void toBitmap(int frontierSize) {
+        Arrays.fill(frontierBits, 0);
+        for (int i = 0; i < frontierSize; i++) {
+            int v = frontier[i];
+            frontierBits[v >>> 6] |= 1L << v;
+        }
+    }
+
+    // Turns the bitmap frontier into the list frontier and returns its size.
+    private int toList() {
+        int size = 0;
+        for (int word = 0; word < frontierBits.length; word++) {
+            long bits = frontierBits[word];
+            while (bits != 0) {
+                frontier[size++] = (word << 6) + Long.numberOfTrailingZeros(bits);
+                bits &= bits - 1;
+            }
+        }
+        return size;
+    }
+
+    // Sets the visited bit of v. Returns false if another task got there first.
+    private boolean claim(int v) {
+        int word = v >>> 6;
+        long bit = 1L << v;
+        long current = visited.get(word);
+        while ((current & bit) == 0) {
+            if (visited.compareAndSet(word, current, current | bit)) {
+                return true;
+            }
+            current = visited.get(word);
+        }
+        return false;
+    }
+
+    // Expands frontier[from, to): claims each unvisited neighbor and appends the
+    // ones it won to next, a block at a time.
+    private final class TopDownTask extends RecursiveAction {
+        private static final long serialVersionUID = 1L;
+
+        private final int from;
+        private final int to;
+        private final int level;
+
+        TopDownTask(int from, int to, int level) {
+            this.from = from;
+            this.to = to;
+            this.level = level;
+        }
+
+        @Override
+        protected void compute() {
+            if (to - from > TOP_DOWN_GRAIN) {
+                int middle = (from + to) >>> 1;
+                invokeAll(new TopDownTask(from, middle, level), new TopDownTask(middle, to, level));
+                return;
+            }
+
+            int[] offsets = graph.offsets;
+            int[] targets = graph.targets;
+            int[] found = buffers.get();
+            int count = 0;
+            int total = 0;
+            long edges = 0;
+            for (int i = from; i < to; i++) {
+                int v = frontier[i];
+                for (int e = offsets[v]; e < offsets[v + 1]; e++) {
+                    int w = targets[e];
+                    if (claim(w)) {
+                        depth[w] = level + 1;
+                        parent[w] = v;
+                        edges += offsets[w + 1] - offsets[w];
+                        found[count++] = w;
+                        if (count == found.length) {
+                            flush(found, count);
+                            total += count;
+                            count = 0;
+                        }
+                    }
+                }
+            }
+            flush(found, count);
+            added.add(total + count);
+            addedEdges.add(edges);
+        }
+
+        // Reserves a block of next and copies the buffered discoveries in.
+        private void flush(int[] found, int count) {
+            if (count > 0) {
+                int start = nextSize.getAndAdd(count);
+                System.arraycopy(found, 0, next, start, count);
+            }
+        }
+    }
+
+    // Looks for a parent in the frontier for every unvisited vertex in
+    // [from, to). Tasks own whole bitmap words, so each word is read and
+    // written back by one task only and needs no compare-and-set.
+    private final class BottomUpTask extends RecursiveAction {
+        private static final long serialVersionUID = 1L;
+
+        private final int from;
+        private final int to;
+        private final int level;
+
+        BottomUpTask(int from, int to, int level) {
+            this.from = from;
+            this.to = to;
+            this.level = level;
+        }
+
+        @Override
+        protected void compute() {
+            if (to - from > BOTTOM_UP_GRAIN) {
+                int middle = ((from + to) >>> 1) & ~63;
+                invokeAll(new BottomUpTask(from, middle, level), new BottomUpTask(middle, to, level));
+                return;
+            }
+
+            int[] inOffsets = reverse.offsets;
+            int[] sources = reverse.targets;
+            int[] outOffsets = graph.offsets;
+            int count = 0;
+            long edges = 0;
+            for (int word = from >>> 6; word << 6 < to; word++) {
+                long seen = visited.get(word);
+                long newBits = 0;
+                int end = Math.min(to, (word + 1) << 6);
+                for (int v = word << 6; v < end; v++) {
+                    if ((seen & (1L << v)) != 0) {
+                        continue;
+                    }
+                    for (int e = inOffsets[v]; e < inOffsets[v + 1]; e++) {
+                        int u = sources[e];
+                        if ((frontierBits[u >>> 6] & (1L << u)) != 0) {
+                            depth[v] = level + 1;
+                            parent[v] = u;
+                            newBits |= 1L << v;
+                            edges += outOffsets[v + 1] - outOffsets[v];
+                            count++;
+                            break;
+                        }
+                    }
+                }
+                if (newBits != 0) {
+                    nextBits[word] = newBits;
+                    visited.set(word, seen | newBits);
+                }
+            }
+            added.add(count);
+            addedEdges.add(edges);
+        }
+    }
+
+    /**
+     * Returns the number of edges on a shortest path from the last source.
+     *
+     * @param id The id of the vertex.
+     * @return The BFS level of the vertex, or -1 if the last search did not
+     *         reach it.
+     */
+    public int depth(int id) {
+        return depth[id];
+    }
+
+    /**
+     * Returns the vertex from which the last search reached a vertex.
+     *
+     * @param id The id of the vertex.
+     * @return The parent in the BFS tree, or -1 for the source and unreached
+     *         vertices.
+     */
+    public int parent(int id) {
+        return parent[id];
+    }
+
+    /**
+     * Returns how many levels of the last search were expanded top-down.
+     *
+     * @return The number of top-down steps.
+     */
+    public int topDownSteps() {
+        return topDownSteps;
+    }
+
+    /**
+     * Returns how many levels of the last search were expanded bottom-up.
+     *
+     * @return The number of bottom-up steps.
+     */
+    public int bottomUpSteps() {
+        return bottomUpSteps;
+    }
+}
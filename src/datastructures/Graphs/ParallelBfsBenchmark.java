@@ -0,0 +1,115 @@
+package datastructures.Graphs;
+
+import java.util.SplittableRandom;
+import java.util.concurrent.ForkJoinPool;
+import java.util.stream.IntStream;
+
+/**
+ * Compares GraphSearch.bfs with ParallelBfs on a synthetic power-law graph.
+ *
+ * The graph is an undirected R-MAT graph as in the Graph500 benchmark: each
+ * edge picks its endpoints by descending a 2^scale adjacency matrix, choosing
+ * a quadrant at every level with probabilities A, B, C and 1 - A - B - C. This
+ * gives a few huge hubs and a long tail of low-degree vertices.
+ *
+ * Arguments: scale (default 24, 16.7M vertices) and edges per vertex (default
+ * 8). The default size needs about 5 GB of heap (-Xmx5g).
+ */
+public class ParallelBfsBenchmark {
+
+    private static final double A = 0.57;
+    private static final double B = 0.19;
+    private static final double C = 0.19;
+
+    private static final int SOURCES = 8;
+
+    private static volatile long sink;
+
+    // Generates edges in parallel, each chunk from its own seeded random so the
+    // graph is the same on every run.
+    private static CsrGraph rmat(int scale, int edgeFactor) {
+        int vertices = 1 << scale;
+        int edges = vertices * edgeFactor;
+        int[] sources = new int[edges];
+        int[] destinations = new int[edges];
+        int chunk = 1 << 16;
+        IntStream.range(0, (edges + chunk - 1) / chunk).parallel().forEach(c -> {
+            SplittableRandom random = new SplittableRandom(42 + c);
+            int end = Math.min(edges, (c + 1) * chunk);
+            for (int e = c * chunk; e < end; e++) {
+                int u = 0;
+                int v = 0;
+                for (int bit = 0; bit < scale; bit++) {
+                    double p = random.nextDouble();
+                    if (p >= A + B + C) {
+                        u |= 1 << bit;
+                        v |= 1 << bit;
+                    } else if (p >= A + B) {
+                        u |= 1 << bit;
+                    } else if (p >= A) {
+                        v |= 1 << bit;
+                    }
+                }
+                sources[e] = u;
+                destinations[e] = v;
+            }
+        });
+        return CsrGraph.fromEdges(vertices, sources, destinations, false);
+    }
+
+    public static void main(String[] args) {
+        int scale = args.length > 0 ? Integer.parseInt(args[0]) : 24;
+        int edgeFactor = args.length > 1 ? Integer.parseInt(args[1]) : 8;
+
+        long start = System.nanoTime();
+        CsrGraph graph = rmat(scale, edgeFactor);
+        System.out.println(graph.vertexCount() + " vertices, " + graph.edgeCount() + " stored edges, built in "
+                + (System.nanoTime() - start) / 1_000_000 + " ms");
+
+        // Start from high-degree vertices so every search covers the giant
+        // component.
+        int[] sources = new int[SOURCES];
+        SplittableRandom random = new SplittableRandom(7);
+        for (int i = 0; i < SOURCES; i++) {
+            int v;
+            do {
+                v = random.nextInt(graph.vertexCount());
+            } while (graph.degree(v) < edgeFactor);
+            sources[i] = v;
+        }
+
+        GraphSearch search = new GraphSearch(graph);
+        measure("GraphSearch.bfs (1 thread)", graph, sources, v -> search.bfs(v, w -> { }));
+
+        ParallelBfs single = new ParallelBfs(graph, new ForkJoinPool(1));
+        measure("ParallelBfs (1 thread)", graph, sources, single::search);
+
+        int threads = Runtime.getRuntime().availableProcessors();
+        if (threads > 1) {
+            ParallelBfs parallel = new ParallelBfs(graph, new ForkJoinPool(threads));
+            measure("ParallelBfs (" + threads + " threads)", graph, sources, parallel::search);
+        }
+        System.out.println("last search: " + single.topDownSteps() + " top-down and " + single.bottomUpSteps()
+                + " bottom-up levels");
+    }
+
+    private interface Search {
+        int run(int source);
+    }
+
+    // Reports the mean time per search and edges per second, taking every stored
+    // edge as traversed since the searches start inside the giant component.
+    private static void measure(String name, CsrGraph graph, int[] sources, Search search) {
+        search.run(sources[0]);
+
+        long edges = 0;
+        long start = System.nanoTime();
+        for (int source : sources) {
+            sink = search.run(source);
+            edges += graph.edgeCount();
+        }
+        long nanos = System.nanoTime() - start;
+        System.out.printf("%-28s %8.1f ms/search %10.1f M edges/s%n", name + ":", nanos / 1e6 / sources.length,
+                edges * 1e3 / nanos);
+    }
+}
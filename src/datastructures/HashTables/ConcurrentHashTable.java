@@ -0,0 +1,376 @@
+package datastructures.HashTables;
+
+import java.util.ArrayList;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+import java.util.function.IntBinaryOperator;
+import java.util.function.IntUnaryOperator;
+
+/**
+ * A thread-safe Hash Table for String keys and int values.
+ *
+ * The table is split into a fixed number of segments, each one a small chained
+ * hash table with its own lock (lock striping). Writers only lock the segment
+ * their key hashes to, so threads writing different keys rarely wait on each
+ * other. Readers never lock: bucket heads are read through an
+ * AtomicReferenceArray and every mutable Node field is volatile, so a reader
+ * always sees a consistent chain.
+ */
+public class ConcurrentHashTable {
+
+    // Default number of segments. Always a power of two.
+    private static final int DEFAULT_CONCURRENCY_LEVEL = 16;
+
+    // Default number of buckets per segment. Always a power of two.
+    private static final int DEFAULT_SEGMENT_CAPACITY = 8;
+
+    // Ratio of entries to buckets at which a segment doubles.
+    private static final float LOAD_FACTOR = 0.75f;
+
+    // Largest bucket array a single segment will allocate.
+    private static final int MAXIMUM_SEGMENT_CAPACITY = 1 << 28;
+
+    // The segments. The top bits of a key's hash pick its segment.
+    private final Segment[] segments;
+
+    // Number of bits the hash is shifted right to get the segment index.
+    private final int segmentShift;
+
+    /**
+     * Inner class to represent individual entries. key and hash never change;
+     * value and next are volatile so that lock-free readers see the latest write.
+     */
+    static final class Node {
+
+        // Key for the entry.
+        final String key;
+
+        // Mixed hash of the key.
+        final int hash;
+
+        // Value for the entry.
+        volatile int value;
+
+        // Reference to the next node in the linked-list chain.
+        volatile Node next;
+
+        Node(String key, int value, int hash, Node next) {
+            this.key = key;
+            this.value = value;
+            this.hash = hash;
+            this.next = next;
+        }
+    }
+
+    /**
+     * One lock stripe: a chained hash table whose writes are serialized by
+     * synchronizing on the segment itself.
+     */
+    static final class Segment {
+
+        // Buckets of this segment. Replaced as a whole when the segment grows.
+        volatile AtomicReferenceArray<Node> table;
+
+        // Number of entries in this segment. Only written under the lock.
+        volatile int count;
+
+        // Entry count at which this segment grows.
+        int threshold;
+
+        // Largest bucket array this segment may grow to. Bucket indexes must
+        // stay in the hash bits below the ones that pick the segment, or every
+        // key in the segment would share those bits and half the buckets would
+        // stay empty.
+        final int maxCapacity;
+
+        Segment(int capacity, int maxCapacity) {
+            table = new AtomicReferenceArray<>(capacity);
+            this.maxCapacity = maxCapacity;
+            threshold = (int) (capacity * LOAD_FACTOR);
+        }
+
+        /**
+         * Finds the node for a key without locking.
+         */
+        Node find(String key, int hash) {
+            AtomicReferenceArray<Node> tab = table;
+            Node temp = tab.get(hash & (tab.length() - 1));
+            while (temp != null) {
+                if (temp.hash == hash && temp.key.equals(key)) {
+                    return temp;
+                }
+                temp = temp.next;
+            }
+            return null;
+        }
+
+        /**
+         * Finds the node for a key, inserting one with the given value if it is
+         * missing. Must be called while holding the segment lock.
+         *
+         * @return The existing node, or null if a new node was inserted.
+         */
+        Node findOrAdd(String key, int value, int hash) {
+            AtomicReferenceArray<Node> tab = table;
+            int index = hash & (tab.length() - 1);
+
+            Node temp = tab.get(index);
+            Node tail = null;
+            while (temp != null) {
+                if (temp.hash == hash && temp.key.equals(key)) {
+                    return temp;
+                }
+                tail = temp;
+                temp = temp.next;
+            }
+
+            // Append at the end of the chain. A reader walking the chain either
+            // stops before the new node or sees it fully constructed.
+            Node newNode = new Node(key, value, hash, null);
+            if (tail == null) {
+                tab.set(index, newNode);
+            } else {
+                tail.next = newNode;
+            }
+
+            count++;
+            if (count > threshold) {
+                resize();
+            }
+            return null;
+        }
+
+        /**
+         * Unlinks the node for a key. Must be called while holding the segment
+         * lock. A reader already standing on the removed node can still follow
+         * its next pointer, because that pointer is left untouched.
+         */
+        boolean remove(String key, int hash) {
+            AtomicReferenceArray<Node> tab = table;
+            int index = hash & (tab.length() - 1);
+
+            Node prev = null;
+            Node temp = tab.get(index);
+            while (temp != null) {
+                if (temp.hash == hash && temp.key.equals(key)) {
+                    if (prev == null) {
+                        tab.set(index, temp.next);
+                    } else {
+                        prev.next = temp.next;
+                    }
+                    count--;
+                    return true;
+                }
+                prev = temp;
+                temp = temp.next;
+            }
+            return false;
+        }
+
+        /**
+         * Doubles the bucket array. Nodes are copied rather than relinked so
+         * readers still walking the old array see unchanged chains; the new
+         * array is published with a single volatile write. Must be called while
+         * holding the segment lock.
+         */
+        void resize() {
+            AtomicReferenceArray<Node> oldTable = table;
+            int oldCapacity = oldTable.length();
+            if (oldCapacity >= maxCapacity) {
+                threshold = Integer.MAX_VALUE;
+                return;
+            }
+
+            int capacity = oldCapacity * 2;
+            AtomicReferenceArray<Node> newTable = new AtomicReferenceArray<>(capacity);
+            for (int i = 0; i < oldCapacity; i++) {
+                for (Node temp = oldTable.get(i); temp != null; temp = temp.next) {
+                    int index = temp.hash & (capacity - 1);
+                    newTable.set(index, new Node(temp.key, temp.value, temp.hash, newTable.get(index)));
+                }
+            }
+
+            threshold = (int) (capacity * LOAD_FACTOR);
+            table = newTable;
+        }
+    }
+
+    /**
+     * Default constructor. Creates the table with the default number of segments.
+     */
+    public ConcurrentHashTable() {
+        this(DEFAULT_CONCURRENCY_LEVEL);
+    }
+
+    /**
+     * Constructs a table with at least the given number of segments, rounded up
+     * to a power of two. More segments let more writers proceed in parallel.
+     *
+     * @param concurrencyLevel The expected number of concurrent writers.
+     */
+    public ConcurrentHashTable(int concurrencyLevel) {
+        if (concurrencyLevel <= 0 || concurrencyLevel > (1 << 16)) {
+            throw new IllegalArgumentException("Illegal concurrency level: " + concurrencyLevel);
+        }
+        int segmentCount = 1;
+        int bits = 0;
+        while (segmentCount < concurrencyLevel) {
+            segmentCount <<= 1;
+            bits++;
+        }
+        segmentShift = 32 - bits;
+        int maxCapacity = Math.min(MAXIMUM_SEGMENT_CAPACITY, 1 << Math.min(segmentShift, 30));
+        segments = new Segment[segmentCount];
+        for (int i = 0; i < segmentCount; i++) {
+            segments[i] = new Segment(DEFAULT_SEGMENT_CAPACITY, maxCapacity);
+        }
+    }
+
+    /**
+     * Picks the segment for a hash from its top bits, leaving the low bits to
+     * pick the bucket inside the segment. Segments never grow past
+     * 1 << segmentShift buckets, so the two ranges of bits never overlap.
+     *
+     * @param hash The hash computed by HashTable.hash.
+     * @return The segment owning the hash.
+     */
+    private Segment segmentFor(int hash) {
+        // With a single segment the shift is 32, which Java treats as 0, so mask
+        // the result to stay in range.
+        return segments[(hash >>> segmentShift) & (segments.length - 1)];
+    }
+
+    /**
+     * Returns the number of entries. The segments are summed without locking,
+     * so under concurrent writes the result is only an estimate.
+     *
+     * @return The number of entries.
+     */
+    public int size() {
+        int total = 0;
+        for (Segment segment : segments) {
+            total += segment.count;
+        }
+        return total;
+    }
+
+    /**
+     * Inserts a key-value pair, overwriting the value if the key is present.
+     *
+     * @param key   The key to be inserted.
+     * @param value The value associated with the key.
+     */
+    public void set(String key, int value) {
+        int hash = HashTable.hash(key);
+        Segment segment = segmentFor(hash);
+        synchronized (segment) {
+            Node node = segment.findOrAdd(key, value, hash);
+            if (node != null) {
+                node.value = value;
+            }
+        }
+    }
+
+    /**
+     * Retrieves the value associated with the provided key without locking. If
+     * the key does not exist in the table, the method returns 0.
+     *
+     * @param key The key whose associated value needs to be returned.
+     * @return The value associated with the key if it exists, otherwise 0.
+     */
+    public int get(String key) {
+        int hash = HashTable.hash(key);
+        Node node = segmentFor(hash).find(key, hash);
+        return node == null ? 0 : node.value;
+    }
+
+    /**
+     * Checks whether the table contains the given key, without locking.
+     *
+     * @param key The key to look for.
+     * @return true if the key is present, false otherwise.
+     */
+    public boolean containsKey(String key) {
+        int hash = HashTable.hash(key);
+        return segmentFor(hash).find(key, hash) != null;
+    }
+
+    /**
+     * Atomically replaces the value of a key with the result of applying a
+     * function to its current value. An absent key is treated as having the
+     * value 0 and is inserted. The function runs while the segment is locked,
+     * so it should be short.
+     *
+     * @param key      The key whose value is updated.
+     * @param function The function computing the new value from the old one.
+     * @return The new value associated with the key.
+     */
+    public int compute(String key, IntUnaryOperator function) {
+        int hash = HashTable.hash(key);
+        Segment segment = segmentFor(hash);
+        synchronized (segment) {
+            Node node = segment.findOrAdd(key, 0, hash);
+            if (node == null) {
+                node = segment.find(key, hash);
+            }
+            node.value = function.applyAsInt(node.value);
+            return node.value;
+        }
+    }
+
+    /**
+     * Atomically inserts the given value if the key is absent, otherwise
+     * replaces the current value with function(currentValue, value).
+     *
+     * @param key      The key whose value is updated.
+     * @param value    The value to insert, or to combine with the current one.
+     * @param function The function combining the current value and value.
+     * @return The new value associated with the key.
+     */
+    public int merge(String key, int value, IntBinaryOperator function) {
+        int hash = HashTable.hash(key);
+        Segment segment = segmentFor(hash);
+        synchronized (segment) {
+            Node node = segment.findOrAdd(key, value, hash);
+            if (node == null) {
+                return value;
+            }
+            node.value = function.applyAsInt(node.value, value);
+            return node.value;
+        }
+    }
+
+    /**
+     * Removes the entry for the given key.
+     *
+     * @param key The key to be removed.
+     * @return true if the key was present and removed, false otherwise.
+     */
+    public boolean remove(String key) {
+        int hash = HashTable.hash(key);
+        Segment segment = segmentFor(hash);
+        synchronized (segment) {
+            return segment.remove(key, hash);
+        }
+    }
+
+    /**
+     * Returns an ArrayList containing all the keys present in the table. The
+     * segments are walked without locking, so keys written concurrently may or
+     * may not be included.
+     *
+     * @return ArrayList of all keys in the table.
+     */
+    public ArrayList<String> keys() {
+        ArrayList<String> allKeys = new ArrayList<>();
+        for (Segment segment : segments) {
+            AtomicReferenceArray<Node> tab = segment.table;
+            for (int i = 0; i < tab.length(); i++) {
+                for (Node temp = tab.get(i); temp != null; temp = temp.next) {
+                    allKeys.add(temp.key);
+                }
+            }
+        }
+        return allKeys;
+    }
+
+}
@@ -0,0 +1,99 @@
+package datastructures.HashTables;
+
+import java.util.function.IntConsumer;
+
+/**
+ * Hammers a ConcurrentHashTable from several threads and checks that no
+ * update is lost, then compares its throughput with a HashTable guarded by a
+ * single global lock.
+ */
+public class ConcurrentHashTableStress {
+
+    private static final int THREADS = Math.max(4, Runtime.getRuntime().availableProcessors());
+    private static final int KEYS = 1_000;
+    private static final int INCREMENTS_PER_THREAD = 500_000;
+
+    /**
+     * Runs the same body on THREADS threads and waits for all of them.
+     *
+     * @param body The work for one thread, given its thread number.
+     * @return The wall-clock time in milliseconds.
+     */
+    private static long runThreads(IntConsumer body) throws InterruptedException {
+        Thread[] threads = new Thread[THREADS];
+        for (int t = 0; t < THREADS; t++) {
+            int id = t;
+            threads[t] = new Thread(() -> body.accept(id));
+        }
+        long start = System.nanoTime();
+        for (Thread thread : threads) {
+            thread.start();
+        }
+        for (Thread thread : threads) {
+            thread.join();
+        }
+        return (System.nanoTime() - start) / 1_000_000;
+    }
+
+    public static void main(String[] args) throws InterruptedException {
+        String[] keys = new String[KEYS];
+        for (int i = 0; i < KEYS; i++) {
+            keys[i] = "counter" + i;
+        }
+
+        // Every thread increments every key the same number of times, mixing in
+        // lock-free reads and removes of unrelated keys to force contention on
+        // the same segments.
+        ConcurrentHashTable table = new ConcurrentHashTable();
+        long concurrentMillis = runThreads(id -> {
+            for (int i = 0; i < INCREMENTS_PER_THREAD; i++) {
+                String key = keys[i % KEYS];
+                table.merge(key, 1, Integer::sum);
+                table.get(keys[(i * 7) % KEYS]);
+                if (i % 64 == 0) {
+                    String scratch = "scratch" + id + "-" + i;
+                    table.set(scratch, i);
+                    table.remove(scratch);
+                }
+            }
+        });
+
+        long total = 0;
+        for (String key : keys) {
+            total += table.get(key);
+        }
+        long expected = (long) THREADS * INCREMENTS_PER_THREAD;
+        System.out.println("threads: " + THREADS + ", expected " + expected + ", counted " + total
+                + (total == expected ? " (no lost updates)" : " (LOST UPDATES)"));
+        System.out.println("size after scratch removes: " + table.size() + " (expected " + KEYS + ")");
+
+        // Same workload on the single-threaded table behind one global lock.
+        HashTable globalTable = new HashTable();
+        Object lock = new Object();
+        long globalMillis = runThreads(id -> {
+            for (int i = 0; i < INCREMENTS_PER_THREAD; i++) {
+                String key = keys[i % KEYS];
+                synchronized (lock) {
+                    globalTable.merge(key, 1, Integer::sum);
+                }
+                synchronized (lock) {
+                    globalTable.get(keys[(i * 7) % KEYS]);
+                }
+                if (i % 64 == 0) {
+                    String scratch = "scratch" + id + "-" + i;
+                    synchronized (lock) {
+                        globalTable.set(scratch, i);
+                        globalTable.remove(scratch);
+                    }
+                }
+            }
+        });
+
+        System.out.println("ConcurrentHashTable: " + concurrentMillis + " ms");
+        System.out.println("global lock:         " + globalMillis + " ms");
+
+        if (total != expected) {
+            throw new IllegalStateException("lost updates: expected " + expected + " but counted " + total);
+        }
+    }
+}
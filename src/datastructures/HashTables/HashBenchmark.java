@@ -0,0 +1,103 @@
+package datastructures.HashTables;
+
+import java.util.Arrays;
+
+/**
+ * Compares the chain-length distribution of the original polynomial hash with
+ * the mixed String.hashCode used by HashTable, and times set/get on a loaded
+ * table.
+ */
+public class HashBenchmark {
+
+    /**
+     * The hash HashTable used before: the sum of every character times 23,
+     * reduced modulo the table length at each step. It ignores character order,
+     * so anagrams always collide.
+     *
+     * @param key    The key to hash.
+     * @param length The number of buckets.
+     * @return The bucket index.
+     */
+    private static int legacyHash(String key, int length) {
+        int hash = 0;
+        char[] keyChars = key.toCharArray();
+        for (int i = 0; i < keyChars.length; i++) {
+            hash = (hash + keyChars[i] * 23) % length;
+        }
+        return hash;
+    }
+
+    private static int[] legacyHistogram(String[] keys, int capacity, int maxLength) {
+        int[] chainLengths = new int[capacity];
+        for (String key : keys) {
+            chainLengths[legacyHash(key, capacity)]++;
+        }
+        int[] histogram = new int[maxLength + 1];
+        for (int length : chainLengths) {
+            histogram[Math.min(length, maxLength)]++;
+        }
+        return histogram;
+    }
+
+    private static void compare(String label, String[] keys) {
+        HashTable table = new HashTable();
+        for (int i = 0; i < keys.length; i++) {
+            table.set(keys[i], i);
+        }
+
+        int maxLength = 8;
+        System.out.println(label + " (" + keys.length + " keys, " + table.capacity() + " buckets)");
+        System.out.println("    chain length 0.." + maxLength + "+");
+        System.out.println("    legacy: " + Arrays.toString(legacyHistogram(keys, table.capacity(), maxLength)));
+        System.out.println("    mixed:  " + Arrays.toString(table.chainLengthHistogram(maxLength)));
+    }
+
+    public static void main(String[] args) {
+        int n = 200_000;
+
+        String[] sequential = new String[n];
+        for (int i = 0; i < n; i++) {
+            sequential[i] = "key" + i;
+        }
+        compare("sequential keys", sequential);
+
+        // Every permutation of the same characters: the legacy hash puts them all
+        // in one bucket.
+        String[] anagrams = new String[5040];
+        int[] index = { 0 };
+        permute("abcdefg".toCharArray(), 0, anagrams, index);
+        compare("anagrams", anagrams);
+
+        // Rough throughput for set/get on the mixed hash.
+        HashTable table = new HashTable();
+        long start = System.nanoTime();
+        for (int i = 0; i < n; i++) {
+            table.set(sequential[i], i);
+        }
+        long setNanos = System.nanoTime() - start;
+
+        start = System.nanoTime();
+        long sum = 0;
+        for (int i = 0; i < n; i++) {
+            sum += table.get(sequential[i]);
+        }
+        long getNanos = System.nanoTime() - start;
+
+        System.out.println("set: " + setNanos / n + " ns/op, get: " + getNanos / n + " ns/op (checksum " + sum + ")");
+    }
+
+    private static void permute(char[] chars, int k, String[] out, int[] index) {
+        if (k == chars.length) {
+            out[index[0]++] = new String(chars);
+            return;
+        }
+        for (int i = k; i < chars.length; i++) {
+            char temp = chars[k];
+            chars[k] = chars[i];
+            chars[i] = temp;
+            permute(chars, k + 1, out, index);
+            chars[i] = chars[k];
+            chars[k] = temp;
+        }
+    }
+}
@@ -1,18 +1,83 @@
 package datastructures.HashTables;
 
+import java.io.BufferedOutputStream;
+import java.io.DataOutputStream;
+import java.io.EOFException;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.channels.Channels;
+import java.nio.channels.ReadableByteChannel;
+import java.nio.channels.WritableByteChannel;
+import java.nio.charset.StandardCharsets;
+import java.util.AbstractCollection;
 import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.ConcurrentModificationException;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+import java.util.Spliterator;
+import java.util.function.Consumer;
+import java.util.function.IntBinaryOperator;
+import java.util.function.IntConsumer;
+import java.util.function.IntUnaryOperator;
+import java.util.function.ObjIntConsumer;
 
 /**
  * A simple implementation of a Hash Table.
  */
 public class HashTable {
 
-    // Default size for the hash table.
-    private int size = 7;
+    // Default number of buckets. Always a power of two.
+    private static final int DEFAULT_CAPACITY = 8;
+
+    // Default ratio of entries to buckets at which the table grows.
+    private static final float DEFAULT_LOAD_FACTOR = 0.75f;
+
+    // Largest bucket array we will ever allocate.
+    private static final int MAXIMUM_CAPACITY = 1 << 30;
+
+    // Number of old buckets moved into the new table on each call to set.
+    private static final int MIGRATE_STEP = 4;
+
+    // First four bytes of a snapshot written by writeTo ("HTS1").
+    private static final int SNAPSHOT_MAGIC = 0x48545331;
+
+    // Buffer size used when writing a snapshot.
+    private static final int SNAPSHOT_BUFFER_SIZE = 1 << 16;
+
+    // Most entries readFrom sizes the table for before it has read them, so a
+    // corrupt entry count cannot allocate a huge bucket array up front.
+    private static final int SNAPSHOT_PRESIZE_LIMIT = 1 << 20;
+
+    // Longest UTF-8 key a snapshot may hold. Anything longer in a snapshot
+    // being read is taken as corruption.
+    private static final int SNAPSHOT_MAX_KEY_LENGTH = 1 << 24;
 
     // Array to store linked-list chains for collision resolution.
     private Node[] dataMap;
 
+    // The previous bucket array while a resize is in progress, otherwise null.
+    private Node[] oldMap;
+
+    // Index of the next old bucket the incremental rehash will move.
+    private int migrateIndex;
+
+    // Number of entries currently stored across both bucket arrays.
+    private int count;
+
+    // Ratio of entries to buckets at which the table grows.
+    private final float loadFactor;
+
+    // Entry count at which the next resize starts.
+    private int threshold;
+
+    // Number of structural changes (adds, removes, resizes, migrated buckets).
+    // Iterators, spliterators and forEach use it to detect modification during
+    // iteration.
+    private int modCount;
+
     /**
      * Inner class to represent individual entries in the HashTable.
      */
@@ -24,27 +89,132 @@ public class HashTable {
         // Value for the entry.
         private int value;
 
+        // Mixed hash of the key, cached so chain walks and rehashing never
+        // recompute it.
+        private final int hash;
+
         // Reference to the next node in the linked-list chain.
         private Node next;
 
         /**
-         * Constructs a new Node with a given key and value.
+         * Constructs a new Node with a given key, value and key hash.
          * 
          * @param key   The key of the entry.
          * @param value The value of the entry.
+         * @param hash  The hash of the key as computed by hash(String).
          */
-        public Node(String key, int value) {
+        public Node(String key, int value, int hash) {
             this.key = key;
             this.value = value;
+            this.hash = hash;
+        }
+
+        /**
+         * Returns the key of this entry.
+         *
+         * @return The key.
+         */
+        public String getKey() {
+            return key;
+        }
+
+        /**
+         * Returns the value of this entry. Reflects later writes to the key for
+         * as long as the entry stays in the table.
+         *
+         * @return The value.
+         */
+        public int getValue() {
+            return value;
+        }
+
+        /**
+         * Replaces the value of this entry in place.
+         *
+         * @param value The new value.
+         */
+        public void setValue(int value) {
+            this.value = value;
+        }
+
+        @Override
+        public String toString() {
+            return key + "=" + value;
         }
     }
 
     /**
      * Default constructor for the HashTable. Initializes the dataMap array
-     * with the default size.
+     * with the default capacity and load factor.
      */
     public HashTable() {
-        dataMap = new Node[size];
+        this(DEFAULT_CAPACITY, DEFAULT_LOAD_FACTOR);
+    }
+
+    /**
+     * Constructs a HashTable with room for at least the given number of buckets
+     * and the default load factor.
+     *
+     * @param initialCapacity The minimum number of buckets to start with.
+     */
+    public HashTable(int initialCapacity) {
+        this(initialCapacity, DEFAULT_LOAD_FACTOR);
+    }
+
+    /**
+     * Constructs a HashTable with the given initial capacity and load factor.
+     * The capacity is rounded up to the next power of two.
+     *
+     * @param initialCapacity The minimum number of buckets to start with.
+     * @param loadFactor      The ratio of entries to buckets at which the table
+     *                        doubles in size.
+     */
+    public HashTable(int initialCapacity, float loadFactor) {
+        if (initialCapacity < 0) {
+            throw new IllegalArgumentException("Illegal initial capacity: " + initialCapacity);
+        }
+        if (loadFactor <= 0 || Float.isNaN(loadFactor)) {
+            throw new IllegalArgumentException("Illegal load factor: " + loadFactor);
+        }
+        this.loadFactor = loadFactor;
+        dataMap = new Node[tableSizeFor(initialCapacity)];
+        threshold = (int) Math.min(dataMap.length * loadFactor, Integer.MAX_VALUE);
+    }
+
+    /**
+     * Rounds the requested capacity up to the next power of two, clamped to
+     * MAXIMUM_CAPACITY.
+     *
+     * @param capacity The requested number of buckets.
+     * @return The smallest power of two greater than or equal to capacity.
+     */
+    private static int tableSizeFor(int capacity) {
+        if (capacity >= MAXIMUM_CAPACITY) {
+            return MAXIMUM_CAPACITY;
+        }
+        int n = 1;
+        while (n < capacity) {
+            n <<= 1;
+        }
+        return n;
+    }
+
+    /**
+     * Returns the number of entries stored in the hash table.
+     *
+     * @return The number of entries.
+     */
+    public int size() {
+        return count;
+    }
+
+    /**
+     * Returns the current number of buckets in the hash table.
+     *
+     * @return The bucket array length.
+     */
+    public int capacity() {
+        return dataMap.length;
     }
 
     /**
@@ -64,64 +234,341 @@ public class HashTable {
                 temp = temp.next;
             }
         }
+
+        // While a resize is in progress, some entries still live in the old buckets.
+        if (oldMap != null) {
+            System.out.println("resizing (old buckets):");
+            for (int i = migrateIndex; i < oldMap.length; i++) {
+                Node temp = oldMap[i];
+                while (temp != null) {
+                    System.out.println("    {" + temp.key + "= " + temp.value + "}");
+                    temp = temp.next;
+                }
+            }
+        }
     }
 
     /**
-     * Computes the hash value for a given key. The resulting hash value is used
-     * to determine the index where the key-value pair should be stored in the hash
-     * table.
+     * Computes the hash value for a given key. The resulting hash value is used,
+     * together with indexFor, to determine the bucket where the key-value pair
+     * should be stored in the hash table.
      * 
-     * This method uses a simple polynomial accumulation hashing approach. The key
-     * is
-     * converted to its character array and each character's ASCII value is
-     * multiplied
-     * by a prime number (23 in this case) and accumulated to produce the hash.
-     * The result is then taken modulo the length of the dataMap to ensure it's
-     * within the bounds of the hash table.
+     * This method starts from String.hashCode, which the String computes once and
+     * caches, so no character array is copied. Because the bucket index only keeps
+     * the low bits of the hash, the value is passed through the Murmur3 32-bit
+     * finalizer so that every bit of the original hash affects those low bits.
      *
      * @param key The key for which the hash needs to be computed.
-     * @return The computed hash value (index in the hash table).
+     * @return The computed hash value.
+     */
+    static int hash(String key) {
+        return mix(key.hashCode());
+    }
+
+    /**
+     * The Murmur3 32-bit finalizer. Spreads every input bit across the whole
+     * result, so masking off the low bits still gives well-distributed indexes.
+     *
+     * @param h The value to mix.
+     * @return The mixed value.
+     */
+    static int mix(int h) {
+        h ^= h >>> 16;
+        h *= 0x85ebca6b;
+        h ^= h >>> 13;
+        h *= 0xc2b2ae35;
+        h ^= h >>> 16;
+        return h;
+    }
+
+    /**
+     * The Murmur3 64-bit finalizer, folded down to an int.
+     *
+     * @param h The value to mix.
+     * @return The mixed value.
+     */
+    static int mix(long h) {
+        h ^= h >>> 33;
+        h *= 0xff51afd7ed558ccdL;
+        h ^= h >>> 33;
+        h *= 0xc4ceb9fe1a85ec53L;
+        h ^= h >>> 33;
+        return (int) (h ^ (h >>> 32));
+    }
+
+    /**
+     * Maps a hash value to a bucket index. The bucket array length is always a
+     * power of two, so masking is equivalent to a modulo.
+     *
+     * @param hash   The hash value computed by hash(String).
+     * @param length The number of buckets in the target array.
+     * @return The bucket index.
+     */
+    private static int indexFor(int hash, int length) {
+        return hash & (length - 1);
+    }
+
+    /**
+     * Starts growing the table by allocating a bucket array twice as large.
+     * Existing chains stay in oldMap and are moved over a few buckets at a time
+     * by migrate, so no single set pays for rehashing the whole table.
+     */
+    private void startResize() {
+        if (dataMap.length >= MAXIMUM_CAPACITY) {
+            threshold = Integer.MAX_VALUE;
+            return;
+        }
+        oldMap = dataMap;
+        migrateIndex = 0;
+        modCount++;
+        dataMap = new Node[oldMap.length * 2];
+        threshold = (int) Math.min(dataMap.length * loadFactor, Integer.MAX_VALUE);
+    }
+
+    /**
+     * Moves up to the given number of non-empty old buckets into the new table.
+     * Once every old bucket has been moved, oldMap is dropped.
+     *
+     * @param buckets The maximum number of non-empty buckets to move.
      */
-    private int hash(String key) {
-        int hash = 0;
-        char[] keyChars = key.toCharArray();
+    private void migrate(int buckets) {
+        while (oldMap != null && buckets > 0) {
+            if (migrateIndex == oldMap.length) {
+                oldMap = null;
+                return;
+            }
+            if (oldMap[migrateIndex] != null) {
+                migrateBucket(migrateIndex);
+                buckets--;
+            }
+            migrateIndex++;
+        }
+    }
 
-        // Iterate over each character in the key.
-        for (int i = 0; i < keyChars.length; i++) {
-            int asciiValue = keyChars[i];
-            hash = (hash + asciiValue * 23) % dataMap.length;
+    /**
+     * Moves every node of one old bucket into the new table, appending to the
+     * end of each target chain so entries keep their insertion order.
+     *
+     * @param oldIndex The index of the bucket in oldMap.
+     */
+    private void migrateBucket(int oldIndex) {
+        Node temp = oldMap[oldIndex];
+        oldMap[oldIndex] = null;
+        modCount++;
+
+        while (temp != null) {
+            Node next = temp.next;
+            temp.next = null;
+
+            int index = indexFor(temp.hash, dataMap.length);
+            if (dataMap[index] == null) {
+                dataMap[index] = temp;
+            } else {
+                Node tail = dataMap[index];
+                while (tail.next != null) {
+                    tail = tail.next;
+                }
+                tail.next = temp;
+            }
+            temp = next;
         }
+    }
 
-        return hash;
+    /**
+     * Prepares the bucket array for a write of the given hash. While a resize is
+     * in progress, the old bucket the key maps to is moved over first, so the key
+     * can only be found in dataMap afterwards, and a few more old buckets are
+     * migrated to keep the resize moving.
+     *
+     * @param hash The hash of the key about to be written.
+     * @return The index of the key's bucket in dataMap.
+     */
+    private int writeIndex(int hash) {
+        if (oldMap != null) {
+            int oldIndex = indexFor(hash, oldMap.length);
+            if (oldMap[oldIndex] != null) {
+                migrateBucket(oldIndex);
+            }
+            migrate(MIGRATE_STEP);
+        }
+        return indexFor(hash, dataMap.length);
     }
 
     /**
-     * Inserts a key-value pair into the hash table. If the bucket (determined by
-     * the
-     * hash value of the key) is already occupied, the method uses chaining by
-     * appending the new node to the end of the linked list in that bucket.
+     * Finds the node for a key in a dataMap bucket.
      *
-     * @param key   The key to be inserted.
-     * @param value The value associated with the key.
+     * @param index The bucket index returned by writeIndex.
+     * @param key   The key to look for.
+     * @param hash  The hash of the key.
+     * @return The node holding the key, or null if it is not in the bucket.
      */
-    public void set(String key, int value) {
-        // Calculate the index for the key using the hash function.
-        int index = hash(key);
-        Node newNode = new Node(key, value);
+    private Node findNode(int index, String key, int hash) {
+        Node temp = dataMap[index];
+        while (temp != null) {
+            if (temp.hash == hash && temp.key.equals(key)) {
+                return temp;
+            }
+            temp = temp.next;
+        }
+        return null;
+    }
+
+    /**
+     * Appends a new node to the end of a dataMap bucket and grows the table if
+     * the load factor has been exceeded. Growing does not copy nodes, so the
+     * returned node stays valid.
+     *
+     * @param index The bucket index returned by writeIndex.
+     * @param key   The key of the new entry.
+     * @param value The value of the new entry.
+     * @param hash  The hash of the key.
+     * @return The newly added node.
+     */
+    private Node addNode(int index, String key, int value, int hash) {
+        Node newNode = new Node(key, value, hash);
 
         // If the bucket is empty, just add the new node.
         if (dataMap[index] == null) {
             dataMap[index] = newNode;
         } else {
             // If the bucket is occupied, traverse to the end of the linked list in the
-            // bucket
-            // and append the new node there.
+            // bucket and append the new node there.
             Node temp = dataMap[index];
             while (temp.next != null) {
                 temp = temp.next;
             }
             temp.next = newNode;
         }
+
+        count++;
+        modCount++;
+        if (count > threshold) {
+            // Finish any resize still in flight before starting the next one.
+            migrate(Integer.MAX_VALUE);
+            startResize();
+        }
+        return newNode;
+    }
+
+    /**
+     * Inserts a key-value pair into the hash table. If the key is already present
+     * its value is overwritten in place; otherwise the method uses chaining by
+     * appending a new node to the end of the linked list in the key's bucket.
+     * 
+     * Once the number of entries passes capacity * loadFactor the table doubles
+     * in size. The existing chains are rehashed incrementally: each call moves a
+     * few old buckets into the new array.
+     *
+     * @param key   The key to be inserted.
+     * @param value The value associated with the key.
+     */
+    public void set(String key, int value) {
+        int hash = hash(key);
+        int index = writeIndex(hash);
+
+        Node node = findNode(index, key, hash);
+        if (node != null) {
+            node.value = value;
+        } else {
+            addNode(index, key, value, hash);
+        }
+    }
+
+    /**
+     * Replaces the value of a key with the result of applying a function to its
+     * current value, using a single lookup. An absent key is treated as having
+     * the value 0, matching get, and is inserted.
+     * 
+     * For example, compute("hits", v -> v + 1) counts occurrences of "hits".
+     *
+     * @param key      The key whose value is updated.
+     * @param function The function computing the new value from the old one.
+     * @return The new value associated with the key.
+     */
+    public int compute(String key, IntUnaryOperator function) {
+        int hash = hash(key);
+        int index = writeIndex(hash);
+
+        Node node = findNode(index, key, hash);
+        if (node == null) {
+            node = addNode(index, key, 0, hash);
+        }
+        node.value = function.applyAsInt(node.value);
+        return node.value;
+    }
+
+    /**
+     * Inserts the given value if the key is absent, otherwise replaces the
+     * current value with function(currentValue, value), using a single lookup.
+     * 
+     * For example, merge(word, 1, Integer::sum) counts words.
+     *
+     * @param key      The key whose value is updated.
+     * @param value    The value to insert, or to combine with the current one.
+     * @param function The function combining the current value and value.
+     * @return The new value associated with the key.
+     */
+    public int merge(String key, int value, IntBinaryOperator function) {
+        int hash = hash(key);
+        int index = writeIndex(hash);
+
+        Node node = findNode(index, key, hash);
+        if (node == null) {
+            addNode(index, key, value, hash);
+            return value;
+        }
+        node.value = function.applyAsInt(node.value, value);
+        return node.value;
+    }
+
+    /**
+     * Removes the entry for the given key by unlinking its node from the chain.
+     *
+     * @param key The key to be removed.
+     * @return true if the key was present and removed, false otherwise.
+     */
+    public boolean remove(String key) {
+        int hash = hash(key);
+        int index = writeIndex(hash);
+
+        Node prev = null;
+        Node temp = dataMap[index];
+        while (temp != null) {
+            if (temp.hash == hash && temp.key.equals(key)) {
+                // Unlink the node: either the bucket head moves on, or the
+                // previous node skips over it.
+                if (prev == null) {
+                    dataMap[index] = temp.next;
+                } else {
+                    prev.next = temp.next;
+                }
+                temp.next = null;
+                count--;
+                modCount++;
+                return true;
+            }
+            prev = temp;
+            temp = temp.next;
+        }
+        return false;
+    }
+
+    /**
+     * Checks whether the hash table contains the given key.
+     *
+     * @param key The key to look for.
+     * @return true if the key is present, false otherwise.
+     */
+    public boolean containsKey(String key) {
+        int hash = hash(key);
+        if (oldMap != null) {
+            for (Node temp = oldMap[indexFor(hash, oldMap.length)]; temp != null; temp = temp.next) {
+                if (temp.hash == hash && temp.key.equals(key)) {
+                    return true;
+                }
+            }
+        }
+        return findNode(indexFor(hash, dataMap.length), key, hash) != null;
     }
 
     /**
@@ -132,16 +579,30 @@ public class HashTable {
      * @return The value associated with the key if it exists, otherwise 0.
      */
     public int get(String key) {
+        int hash = hash(key);
+
+        // During a resize the key may still sit in a bucket that hasn't moved yet.
+        if (oldMap != null) {
+            Node temp = oldMap[indexFor(hash, oldMap.length)];
+            while (temp != null) {
+                if (temp.hash == hash && temp.key.equals(key)) {
+                    return temp.value;
+                }
+                temp = temp.next;
+            }
+        }
+
         // Calculate the index for the key using the hash function.
-        int index = hash(key);
+        int index = indexFor(hash, dataMap.length);
 
         // Start at the head of the linked list in the corresponding bucket.
         Node temp = dataMap[index];
 
         // Traverse the linked list in the bucket.
         while (temp != null) {
-            // If a node with the desired key is found, return its value.
-            if (temp.key.equals(key)) {
+            // If a node with the desired key is found, return its value. Comparing
+            // the cached hashes first skips most equals calls on a mismatch.
+            if (temp.hash == hash && temp.key.equals(key)) {
                 return temp.value;
             }
             temp = temp.next;
@@ -151,6 +612,29 @@ public class HashTable {
         return 0;
     }
 
+    /**
+     * Counts how many buckets hold chains of each length. Element i of the result
+     * is the number of buckets whose chain has exactly i nodes; the last element
+     * counts every chain of that length or longer. Any resize still in progress
+     * is completed first so that every entry is counted.
+     *
+     * @param maxLength The longest chain length to count separately.
+     * @return The chain-length histogram.
+     */
+    public int[] chainLengthHistogram(int maxLength) {
+        migrate(Integer.MAX_VALUE);
+
+        int[] histogram = new int[maxLength + 1];
+        for (int i = 0; i < dataMap.length; i++) {
+            int length = 0;
+            for (Node temp = dataMap[i]; temp != null; temp = temp.next) {
+                length++;
+            }
+            histogram[Math.min(length, maxLength)]++;
+        }
+        return histogram;
+    }
+
     /**
      * Returns an ArrayList containing all the keys present in the hash table.
      * 
@@ -159,7 +643,7 @@ public class HashTable {
      *
      * @return ArrayList of all keys in the hash table.
      */
-    public ArrayList keys() {
+    public ArrayList<String> keys() {
         // Initialize an ArrayList to store the keys.
         ArrayList<String> allKeys = new ArrayList<>();
 
@@ -175,8 +659,486 @@ public class HashTable {
             }
         }
 
+        // Include keys from old buckets that have not been migrated yet.
+        if (oldMap != null) {
+            for (int i = migrateIndex; i < oldMap.length; i++) {
+                Node temp = oldMap[i];
+                while (temp != null) {
+                    allKeys.add(temp.key);
+                    temp = temp.next;
+                }
+            }
+        }
+
         // Return the ArrayList containing all keys.
         return allKeys;
     }
 
-}
\ No newline at end of file
+    /**
+     * Performs the given action for every key-value pair, without allocating a
+     * list or boxing the values. Any resize in progress is completed first so
+     * that every entry lives in dataMap.
+     *
+     * @param action The action to perform on each key and value.
+     * @throws ConcurrentModificationException If the action changes the table.
+     */
+    public void forEach(ObjIntConsumer<String> action) {
+        finishResize();
+        int expectedModCount = modCount;
+        Node[] buckets = dataMap;
+        for (int i = 0; i < buckets.length; i++) {
+            for (Node temp = buckets[i]; temp != null; temp = temp.next) {
+                action.accept(temp.key, temp.value);
+            }
+            if (modCount != expectedModCount) {
+                throw new ConcurrentModificationException();
+            }
+        }
+    }
+
+    /**
+     * Performs the given action for every value, without boxing.
+     *
+     * @param action The action to perform on each value.
+     * @throws ConcurrentModificationException If the action changes the table.
+     */
+    public void forEachValue(IntConsumer action) {
+        forEach((key, value) -> action.accept(value));
+    }
+
+    /**
+     * Returns a live view of the keys. The view reads the table directly, so it
+     * reflects later changes; removing a key from it removes the entry.
+     *
+     * @return A collection view of the keys.
+     */
+    public Collection<String> keyView() {
+        return new View<String>(Spliterator.DISTINCT | Spliterator.NONNULL) {
+            @Override
+            String extract(Node node) {
+                return node.key;
+            }
+
+            @Override
+            public boolean contains(Object o) {
+                return o instanceof String && containsKey((String) o);
+            }
+
+            @Override
+            public boolean remove(Object o) {
+                return o instanceof String && HashTable.this.remove((String) o);
+            }
+        };
+    }
+
+    /**
+     * Returns a live view of the values. Values are boxed as they are read; use
+     * forEachValue to avoid that.
+     *
+     * @return A collection view of the values.
+     */
+    public Collection<Integer> valueView() {
+        return new View<Integer>(Spliterator.NONNULL) {
+            @Override
+            Integer extract(Node node) {
+                return node.value;
+            }
+        };
+    }
+
+    /**
+     * Returns a live view of the entries. The nodes themselves are handed out,
+     * so iterating allocates nothing per entry. Its spliterator splits the
+     * bucket array into ranges, so entries().parallelStream() spreads the work
+     * across threads.
+     *
+     * @return A collection view of the entries.
+     */
+    public Collection<Node> entries() {
+        return new View<Node>(Spliterator.DISTINCT | Spliterator.NONNULL) {
+            @Override
+            Node extract(Node node) {
+                return node;
+            }
+        };
+    }
+
+    /**
+     * Completes any resize in progress so that every entry lives in dataMap and
+     * views can walk a single bucket array.
+     */
+    private void finishResize() {
+        if (oldMap != null) {
+            migrate(Integer.MAX_VALUE);
+        }
+    }
+
+    /**
+     * Writes every entry to the stream in a compact binary snapshot that
+     * readFrom can load back. The layout is a magic number, the entry count,
+     * then for each entry the UTF-8 key length, the key bytes and the value.
+     * Output is buffered; the stream is flushed but not closed.
+     *
+     * @param out The stream to write the snapshot to.
+     * @throws IOException If writing fails or a key is longer than 16 MB in UTF-8.
+     */
+    public void writeTo(OutputStream out) throws IOException {
+        DataOutputStream data = new DataOutputStream(new BufferedOutputStream(out, SNAPSHOT_BUFFER_SIZE));
+        data.writeInt(SNAPSHOT_MAGIC);
+        data.writeInt(count);
+        writeEntries(data, dataMap, 0);
+        if (oldMap != null) {
+            writeEntries(data, oldMap, migrateIndex);
+        }
+        data.flush();
+    }
+
+    /**
+     * Writes a snapshot to a channel, such as a FileChannel. The channel is not
+     * closed.
+     *
+     * @param channel The channel to write the snapshot to.
+     * @throws IOException If writing fails or a key is longer than 16 MB in UTF-8.
+     */
+    public void writeTo(WritableByteChannel channel) throws IOException {
+        writeTo(Channels.newOutputStream(channel));
+    }
+
+    /**
+     * Writes the entries of one bucket array, starting at the given bucket.
+     */
+    private static void writeEntries(DataOutputStream data, Node[] buckets, int from) throws IOException {
+        for (int i = from; i < buckets.length; i++) {
+            for (Node temp = buckets[i]; temp != null; temp = temp.next) {
+                byte[] keyBytes = temp.key.getBytes(StandardCharsets.UTF_8);
+                if (keyBytes.length > SNAPSHOT_MAX_KEY_LENGTH) {
+                    throw new IOException("Key too long for a snapshot: " + keyBytes.length + " bytes");
+                }
+                data.writeInt(keyBytes.length);
+                data.write(keyBytes);
+                data.writeInt(temp.value);
+            }
+        }
+    }
+
+    /**
+     * Loads a table from a snapshot written by writeTo. The table is created
+     * with enough buckets for every entry up front (up to
+     * SNAPSHOT_PRESIZE_LIMIT entries), and since snapshot keys are known to be
+     * unique each entry is linked straight into its bucket without searching
+     * the chain.
+     *
+     * Reads are buffered, but never ask the stream for more than the snapshot
+     * is known to still hold, so nothing past its end is consumed and the
+     * stream can carry more data after it.
+     *
+     * @param in The stream to read the snapshot from. It is not closed.
+     * @return The restored table.
+     * @throws IOException If reading fails or the stream is not a snapshot.
+     */
+    public static HashTable readFrom(InputStream in) throws IOException {
+        SnapshotReader reader = new SnapshotReader(in);
+        reader.fill(8, 8);
+        if (reader.readInt() != SNAPSHOT_MAGIC) {
+            throw new IOException("Not a HashTable snapshot");
+        }
+        int entries = reader.readInt();
+        if (entries < 0 || entries > MAXIMUM_CAPACITY) {
+            throw new IOException("Corrupt snapshot: bad entry count " + entries);
+        }
+
+        int presize = Math.min(entries, SNAPSHOT_PRESIZE_LIMIT);
+        HashTable table = new HashTable((int) Math.ceil(presize / DEFAULT_LOAD_FACTOR));
+        for (int i = 0; i < entries; i++) {
+            // Every entry takes at least 8 bytes: its key length and value.
+            long rest = 8L * (entries - i - 1);
+            reader.fill(4, 8 + rest);
+            int length = reader.readInt();
+            if (length < 0 || length > SNAPSHOT_MAX_KEY_LENGTH) {
+                throw new IOException("Corrupt snapshot: bad key length " + length);
+            }
+            reader.fill(length + 4, length + 4 + rest);
+            String key = reader.readString(length);
+            table.addUnique(key, reader.readInt());
+        }
+        return table;
+    }
+
+    /**
+     * Loads a table from a snapshot read from a channel, such as a FileChannel.
+     * The channel is not closed, and is left positioned just past the snapshot.
+     *
+     * @param channel The channel to read the snapshot from.
+     * @return The restored table.
+     * @throws IOException If reading fails or the channel is not a snapshot.
+     */
+    public static HashTable readFrom(ReadableByteChannel channel) throws IOException {
+        return readFrom(Channels.newInputStream(channel));
+    }
+
+    /**
+     * Buffered reader for readFrom. Each fill states how many bytes the
+     * snapshot holds at least from the read position on, and the reader never
+     * pulls more than that from the stream.
+     */
+    private static final class SnapshotReader {
+
+        private final InputStream in;
+        private byte[] buffer = new byte[SNAPSHOT_BUFFER_SIZE];
+        private int position;
+        private int limit;
+
+        SnapshotReader(InputStream in) {
+            this.in = in;
+        }
+
+        /**
+         * Makes sure the next needed bytes are buffered.
+         *
+         * @param needed    The bytes about to be read.
+         * @param available The bytes the snapshot is known to hold from the read
+         *                  position on, at least needed.
+         */
+        void fill(int needed, long available) throws IOException {
+            int buffered = limit - position;
+            if (buffered >= needed) {
+                return;
+            }
+            System.arraycopy(buffer, position, buffer, 0, buffered);
+            position = 0;
+            limit = buffered;
+
+            while (limit < needed) {
+                // Grow only once the bytes already read fill the buffer, so a
+                // corrupt length costs at most twice the data actually present.
+                if (limit == buffer.length) {
+                    buffer = Arrays.copyOf(buffer, Math.min(needed, buffer.length * 2));
+                }
+                int want = (int) Math.min(buffer.length, available);
+                int read = in.read(buffer, limit, want - limit);
+                if (read < 0) {
+                    throw new EOFException("Snapshot ends early");
+                }
+                limit += read;
+            }
+        }
+
+        int readInt() {
+            int value = (buffer[position] & 0xff) << 24
+                    | (buffer[position + 1] & 0xff) << 16
+                    | (buffer[position + 2] & 0xff) << 8
+                    | (buffer[position + 3] & 0xff);
+            position += 4;
+            return value;
+        }
+
+        String readString(int length) {
+            String value = new String(buffer, position, length, StandardCharsets.UTF_8);
+            position += length;
+            return value;
+        }
+    }
+
+    /**
+     * Links a node for a key that is known not to be in the table at the head
+     * of its bucket. Used by readFrom, which usually sizes the table so no
+     * resize is needed.
+     *
+     * @param key   The key of the new entry.
+     * @param value The value of the new entry.
+     */
+    private void addUnique(String key, int value) {
+        int hash = hash(key);
+        int index = indexFor(hash, dataMap.length);
+        Node newNode = new Node(key, value, hash);
+        newNode.next = dataMap[index];
+        dataMap[index] = newNode;
+        count++;
+        modCount++;
+        if (count > threshold) {
+            migrate(Integer.MAX_VALUE);
+            startResize();
+        }
+    }
+
+    /**
+     * Base class for the live key, value and entry views. Each view only
+     * decides what to extract from a node.
+     *
+     * @param <T> The element type of the view.
+     */
+    private abstract class View<T> extends AbstractCollection<T> {
+
+        // Spliterator characteristics of this view.
+        private final int characteristics;
+
+        View(int characteristics) {
+            this.characteristics = characteristics;
+        }
+
+        abstract T extract(Node node);
+
+        @Override
+        public int size() {
+            return count;
+        }
+
+        @Override
+        public Iterator<T> iterator() {
+            return new ViewIterator<>(this);
+        }
+
+        @Override
+        public Spliterator<T> spliterator() {
+            finishResize();
+            return new BucketSpliterator<>(this, dataMap, 0, dataMap.length, count);
+        }
+    }
+
+    /**
+     * Iterator over a view. Walks the buckets in order and supports remove.
+     *
+     * @param <T> The element type of the view.
+     */
+    private final class ViewIterator<T> implements Iterator<T> {
+
+        private final View<T> view;
+        private int index;
+        private Node next;
+        private Node lastReturned;
+        private int expectedModCount;
+
+        ViewIterator(View<T> view) {
+            this.view = view;
+            finishResize();
+            expectedModCount = modCount;
+            advance();
+        }
+
+        /**
+         * Moves next to the head of the next non-empty bucket.
+         */
+        private void advance() {
+            while (next == null && index < dataMap.length) {
+                next = dataMap[index++];
+            }
+        }
+
+        @Override
+        public boolean hasNext() {
+            return next != null;
+        }
+
+        @Override
+        public T next() {
+            if (modCount != expectedModCount) {
+                throw new ConcurrentModificationException();
+            }
+            if (next == null) {
+                throw new NoSuchElementException();
+            }
+            lastReturned = next;
+            next = next.next;
+            advance();
+            return view.extract(lastReturned);
+        }
+
+        @Override
+        public void remove() {
+            if (lastReturned == null) {
+                throw new IllegalStateException();
+            }
+            if (modCount != expectedModCount) {
+                throw new ConcurrentModificationException();
+            }
+            // next was read before the node is unlinked, so iteration continues.
+            HashTable.this.remove(lastReturned.key);
+            lastReturned = null;
+            expectedModCount = modCount;
+        }
+    }
+
+    /**
+     * Spliterator over a range of buckets. trySplit hands half of the remaining
+     * buckets to a new spliterator, which is what lets parallel streams divide
+     * the table between threads.
+     *
+     * @param <T> The element type of the view.
+     */
+    private final class BucketSpliterator<T> implements Spliterator<T> {
+
+        private final View<T> view;
+        private final Node[] table;
+        private int index;
+        private int fence;
+        private Node current;
+        private long estimate;
+        private final int expectedModCount;
+
+        BucketSpliterator(View<T> view, Node[] table, int index, int fence, long estimate) {
+            this.view = view;
+            this.table = table;
+            this.index = index;
+            this.fence = fence;
+            this.estimate = estimate;
+            this.expectedModCount = modCount;
+        }
+
+        @Override
+        public boolean tryAdvance(Consumer<? super T> action) {
+            while (current == null) {
+                if (index >= fence) {
+                    return false;
+                }
+                current = table[index++];
+            }
+            Node node = current;
+            current = node.next;
+            action.accept(view.extract(node));
+            if (modCount != expectedModCount) {
+                throw new ConcurrentModificationException();
+            }
+            return true;
+        }
+
+        @Override
+        public void forEachRemaining(Consumer<? super T> action) {
+            for (Node node = current; node != null; node = node.next) {
+                action.accept(view.extract(node));
+            }
+            current = null;
+            for (; index < fence; index++) {
+                for (Node node = table[index]; node != null; node = node.next) {
+                    action.accept(view.extract(node));
+                }
+            }
+            if (modCount != expectedModCount) {
+                throw new ConcurrentModificationException();
+            }
+        }
+
+        @Override
+        public Spliterator<T> trySplit() {
+            int mid = (index + fence) >>> 1;
+            if (mid <= index) {
+                return null;
+            }
+            // Keep [index, mid) plus any chain in progress; give away [mid, fence).
+            BucketSpliterator<T> suffix = new BucketSpliterator<>(view, table, mid, fence, estimate >>> 1);
+            fence = mid;
+            estimate >>>= 1;
+            return suffix;
+        }
+
+        @Override
+        public long estimateSize() {
+            return estimate;
+        }
+
+        @Override
+        public int characteristics() {
+            return view.characteristics;
+        }
+    }
+
+}
@@ -0,0 +1,349 @@
+package datastructures.HashTables;
+
+import java.util.function.IntBinaryOperator;
+
+/**
+ * A Hash Table from int keys to int values that never boxes.
+ *
+ * Keys and values live in two int arrays and collisions are resolved with
+ * linear probing. The key 0 marks an empty slot, so an entry whose key really
+ * is 0 is kept in two separate fields instead. Removal shifts the following
+ * entries of the probe run back into the hole, so no tombstones are needed.
+ */
+public class IntIntHashTable {
+
+    // Default number of slots. Always a power of two.
+    private static final int DEFAULT_CAPACITY = 16;
+
+    // Default ratio of entries to capacity at which the table doubles.
+    private static final float DEFAULT_LOAD_FACTOR = 0.5f;
+
+    // Largest slot array we will ever allocate.
+    private static final int MAXIMUM_CAPACITY = 1 << 30;
+
+    // Key stored in a slot that holds no entry.
+    private static final int FREE = 0;
+
+    // Keys of the entries.
+    private int[] keys;
+
+    // Values of the entries, at the same index as their key.
+    private int[] values;
+
+    // Whether the table holds an entry for the key 0.
+    private boolean hasZeroKey;
+
+    // Value of the entry for the key 0.
+    private int zeroValue;
+
+    // Number of entries, including the one for the key 0.
+    private int count;
+
+    // Ratio of entries to capacity at which the table doubles.
+    private final float loadFactor;
+
+    // Number of entries at which the table doubles.
+    private int threshold;
+
+    /**
+     * Default constructor. Initializes the table with the default capacity and
+     * load factor.
+     */
+    public IntIntHashTable() {
+        this(DEFAULT_CAPACITY, DEFAULT_LOAD_FACTOR);
+    }
+
+    /**
+     * Constructs a table with the given initial capacity and load factor. The
+     * capacity is rounded up to the next power of two.
+     *
+     * @param initialCapacity The minimum number of slots to start with.
+     * @param loadFactor      The ratio of entries to capacity at which the table
+     *                        doubles. Must be between 0 and 1.
+     */
+    public IntIntHashTable(int initialCapacity, float loadFactor) {
+        if (initialCapacity < 0) {
+            throw new IllegalArgumentException("Illegal initial capacity: " + initialCapacity);
+        }
+        if (!(loadFactor > 0 && loadFactor < 1)) {
+            throw new IllegalArgumentException("Illegal load factor: " + loadFactor);
+        }
+        this.loadFactor = loadFactor;
+        allocate(tableSizeFor(initialCapacity));
+    }
+
+    /**
+     * Rounds the requested capacity up to the next power of two, clamped to
+     * MAXIMUM_CAPACITY.
+     *
+     * @param capacity The requested number of slots.
+     * @return The smallest power of two greater than or equal to capacity.
+     */
+    private static int tableSizeFor(int capacity) {
+        if (capacity >= MAXIMUM_CAPACITY) {
+            return MAXIMUM_CAPACITY;
+        }
+        int n = 2;
+        while (n < capacity) {
+            n <<= 1;
+        }
+        return n;
+    }
+
+    /**
+     * Replaces the slot arrays with empty ones of the given capacity.
+     *
+     * @param capacity The new number of slots.
+     */
+    private void allocate(int capacity) {
+        keys = new int[capacity];
+        values = new int[capacity];
+        threshold = Math.min((int) (capacity * loadFactor), capacity - 1);
+    }
+
+    /**
+     * Returns the number of entries stored in the table.
+     *
+     * @return The number of entries.
+     */
+    public int size() {
+        return count;
+    }
+
+    /**
+     * Returns the current number of slots in the table.
+     *
+     * @return The slot array length.
+     */
+    public int capacity() {
+        return keys.length;
+    }
+
+    /**
+     * Computes the home slot of a key.
+     *
+     * @param key The key for which the slot needs to be computed.
+     * @return The index of the first slot to probe.
+     */
+    private int hash(int key) {
+        return HashTable.mix(key) & (keys.length - 1);
+    }
+
+    /**
+     * Finds the slot holding the given non-zero key.
+     *
+     * @param key The key to look for.
+     * @return The slot index, or -1 if the key is not in the table.
+     */
+    private int indexOf(int key) {
+        int mask = keys.length - 1;
+        int index = hash(key);
+        while (keys[index] != FREE) {
+            if (keys[index] == key) {
+                return index;
+            }
+            index = (index + 1) & mask;
+        }
+        return -1;
+    }
+
+    /**
+     * Inserts a key-value pair into the table, overwriting the value if the key
+     * is already present.
+     *
+     * @param key   The key to be inserted.
+     * @param value The value associated with the key.
+     * @throws IllegalStateException if the key is new and the table is full at
+     *                               its maximum capacity.
+     */
+    public void set(int key, int value) {
+        if (key == FREE) {
+            if (!hasZeroKey) {
+                hasZeroKey = true;
+                count++;
+            }
+            zeroValue = value;
+            return;
+        }
+
+        int mask = keys.length - 1;
+        int index = hash(key);
+        while (keys[index] != FREE) {
+            if (keys[index] == key) {
+                values[index] = value;
+                return;
+            }
+            index = (index + 1) & mask;
+        }
+
+        // At maximum capacity the table cannot grow, so stop at the load factor
+        // rather than fill every slot; probing for a missing key in a full
+        // table would never reach a free slot.
+        if (count >= threshold && keys.length >= MAXIMUM_CAPACITY) {
+            throw new IllegalStateException("Table is full at maximum capacity: " + count + " entries");
+        }
+        keys[index] = key;
+        values[index] = value;
+        count++;
+        if (count > threshold) {
+            resize();
+        }
+    }
+
+    /**
+     * Retrieves the value associated with the provided key. If the key does not
+     * exist in the table, the method returns 0.
+     *
+     * @param key The key whose associated value needs to be returned.
+     * @return The value associated with the key if it exists, otherwise 0.
+     */
+    public int get(int key) {
+        if (key == FREE) {
+            return zeroValue;
+        }
+        int index = indexOf(key);
+        return index == -1 ? 0 : values[index];
+    }
+
+    /**
+     * Checks whether the table contains the given key.
+     *
+     * @param key The key to look for.
+     * @return true if the key is present, false otherwise.
+     */
+    public boolean containsKey(int key) {
+        if (key == FREE) {
+            return hasZeroKey;
+        }
+        return indexOf(key) != -1;
+    }
+
+    /**
+     * Inserts the given value if the key is absent, otherwise replaces the
+     * current value with function(currentValue, value).
+     *
+     * @param key      The key whose value is updated.
+     * @param value    The value to insert, or to combine with the current one.
+     * @param function The function combining the current value and value.
+     * @return The new value associated with the key.
+     */
+    public int merge(int key, int value, IntBinaryOperator function) {
+        if (key == FREE) {
+            zeroValue = hasZeroKey ? function.applyAsInt(zeroValue, value) : value;
+            if (!hasZeroKey) {
+                hasZeroKey = true;
+                count++;
+            }
+            return zeroValue;
+        }
+
+        int index = indexOf(key);
+        if (index == -1) {
+            set(key, value);
+            return value;
+        }
+        values[index] = function.applyAsInt(values[index], value);
+        return values[index];
+    }
+
+    /**
+     * Removes the entry for the given key. Entries further along the probe run
+     * that could live in the freed slot are shifted back into it, so every key
+     * stays reachable from its home slot without tombstones.
+     *
+     * @param key The key to be removed.
+     * @return true if the key was present and removed, false otherwise.
+     */
+    public boolean remove(int key) {
+        if (key == FREE) {
+            if (!hasZeroKey) {
+                return false;
+            }
+            hasZeroKey = false;
+            zeroValue = 0;
+            count--;
+            return true;
+        }
+
+        int hole = indexOf(key);
+        if (hole == -1) {
+            return false;
+        }
+
+        int mask = keys.length - 1;
+        int index = (hole + 1) & mask;
+        while (keys[index] != FREE) {
+            // The entry may move into the hole only if the hole lies between its
+            // home slot and where it sits now.
+            int home = hash(keys[index]);
+            if (((index - home) & mask) >= ((index - hole) & mask)) {
+                keys[hole] = keys[index];
+                values[hole] = values[index];
+                hole = index;
+            }
+            index = (index + 1) & mask;
+        }
+        keys[hole] = FREE;
+        values[hole] = 0;
+        count--;
+        return true;
+    }
+
+    /**
+     * Doubles the slot arrays and reinserts every entry.
+     */
+    private void resize() {
+        if (keys.length >= MAXIMUM_CAPACITY) {
+            throw new IllegalStateException("Table is full at maximum capacity: " + count + " entries");
+        }
+        int[] oldKeys = keys;
+        int[] oldValues = values;
+        allocate(oldKeys.length * 2);
+
+        int mask = keys.length - 1;
+        for (int i = 0; i < oldKeys.length; i++) {
+            if (oldKeys[i] != FREE) {
+                int index = hash(oldKeys[i]);
+                while (keys[index] != FREE) {
+                    index = (index + 1) & mask;
+                }
+                keys[index] = oldKeys[i];
+                values[index] = oldValues[i];
+            }
+        }
+    }
+
+    /**
+     * Prints every entry of the table with its slot index.
+     */
+    public void printTable() {
+        if (hasZeroKey) {
+            System.out.println("zero: {0= " + zeroValue + "}");
+        }
+        for (int i = 0; i < keys.length; i++) {
+            if (keys[i] != FREE) {
+                System.out.println(i + ": {" + keys[i] + "= " + values[i] + "}");
+            }
+        }
+    }
+
+    /**
+     * Returns a new array containing all the keys present in the table.
+     *
+     * @return Array of all keys in the table.
+     */
+    public int[] keys() {
+        int[] allKeys = new int[count];
+        int n = 0;
+        if (hasZeroKey) {
+            allKeys[n++] = 0;
+        }
+        for (int i = 0; i < keys.length; i++) {
+            if (keys[i] != FREE) {
+                allKeys[n++] = keys[i];
+            }
+        }
+        return allKeys;
+    }
+
+}
@@ -0,0 +1,584 @@
+package datastructures.HashTables;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.function.ToIntFunction;
+
+/**
+ * A bounded Hash Table for String keys and int values that evicts the least
+ * recently used entry once a capacity limit is reached.
+ *
+ * Keys are looked up in a HashTable that maps each key to the slot holding its
+ * entry. The slots are parallel arrays, and each entry is linked into a doubly
+ * linked recency list (the same head/tail/prev/next shape as DoublyLinkedList)
+ * through its slot's before and after links, ordered from most to least
+ * recently used. A hit moves the entry to the head; eviction removes the tail.
+ * Both are O(1). Freed slots are reused, so steady traffic allocates nothing
+ * but the table's own nodes.
+ *
+ * The limit is a total weight. By default every entry weighs 1, so the limit
+ * is simply the maximum number of entries.
+ *
+ * With admission enabled the cache follows W-TinyLFU. New entries land in a
+ * small LRU window holding 1% of the weight. The rest is a segmented LRU main
+ * area: entries leaving the window go to its probation segment, and a hit
+ * there promotes them to the protected segment, which holds 80% of the main
+ * area. When the cache is full, the entry leaving the window competes with the
+ * least recently used probation entry, and a count-min sketch of recent
+ * requests decides which one was requested more often and stays.
+ */
+public class LruCache {
+
+    /**
+     * Computes the weight of an entry, for caches bounded by something other
+     * than the entry count.
+     */
+    public interface Weigher {
+        /**
+         * Returns the weight of an entry. Must not be negative.
+         *
+         * @param key   The key of the entry.
+         * @param value The value of the entry.
+         * @return The weight of the entry.
+         */
+        int weigh(String key, int value);
+    }
+
+    // Link value marking the end of a recency list or of the free slot list.
+    private static final int NONE = -1;
+
+    // Slots allocated up front; the slot arrays double when they run out.
+    private static final int INITIAL_SLOTS = 16;
+
+    // Maps each cached key to its slot + 1, so that the table's 0 for a missing
+    // key cannot be mistaken for slot 0.
+    private final HashTable slots;
+
+    // Fields of the entry in each slot.
+    private String[] keys = new String[INITIAL_SLOTS];
+    private int[] hashes = new int[INITIAL_SLOTS];
+    private int[] values = new int[INITIAL_SLOTS];
+    private int[] weights = new int[INITIAL_SLOTS];
+
+    // Recency list holding each slot, and its neighbours there. A free slot
+    // has no list and links to the next free slot through after.
+    private RecencyList[] lists = new RecencyList[INITIAL_SLOTS];
+    private int[] before = new int[INITIAL_SLOTS];
+    private int[] after = new int[INITIAL_SLOTS];
+
+    // First free slot, and the number of slots ever handed out.
+    private int freeSlot = NONE;
+    private int usedSlots;
+
+    // Recency lists. Without admission every entry is in window.
+    private final RecencyList window = new RecencyList();
+    private final RecencyList probation = new RecencyList();
+    private final RecencyList protect = new RecencyList();
+
+    // Largest total weight of the window and protected lists.
+    private final long maxWindowWeight;
+    private final long maxProtectedWeight;
+
+    // Number of entries.
+    private int count;
+
+    // Sum of the weights of all entries.
+    private long totalWeight;
+
+    // Largest total weight the cache may hold.
+    private final long maxWeight;
+
+    // Computes entry weights, or null if every entry weighs 1.
+    private final Weigher weigher;
+
+    // Frequency sketch for TinyLFU admission, or null if admission is disabled.
+    private final FrequencySketch sketch;
+
+    // Statistics.
+    private long hits;
+    private long misses;
+    private long evictions;
+    private long rejections;
+
+    /**
+     * A doubly linked recency list of slots ordered from most to least
+     * recently used.
+     */
+    private final class RecencyList {
+
+        // Most recently used slot.
+        int head = NONE;
+
+        // Least recently used slot.
+        int tail = NONE;
+
+        // Sum of the weights of the entries in this list.
+        long weight;
+
+        void addToHead(int slot) {
+            lists[slot] = this;
+            before[slot] = NONE;
+            after[slot] = head;
+            if (head == NONE) {
+                tail = slot;
+            } else {
+                before[head] = slot;
+            }
+            head = slot;
+            weight += weights[slot];
+        }
+
+        void remove(int slot) {
+            if (before[slot] == NONE) {
+                head = after[slot];
+            } else {
+                after[before[slot]] = after[slot];
+            }
+            if (after[slot] == NONE) {
+                tail = before[slot];
+            } else {
+                before[after[slot]] = before[slot];
+            }
+            lists[slot] = null;
+            weight -= weights[slot];
+        }
+    }
+
+    /**
+     * Constructs a cache holding at most the given number of entries, with
+     * plain LRU eviction.
+     *
+     * @param maxEntries The maximum number of entries.
+     */
+    public LruCache(int maxEntries) {
+        this(maxEntries, null, false);
+    }
+
+    /**
+     * Constructs a cache holding at most the given number of entries.
+     *
+     * @param maxEntries The maximum number of entries.
+     * @param admission  true to evict with W-TinyLFU instead of plain LRU.
+     */
+    public LruCache(int maxEntries, boolean admission) {
+        this(maxEntries, null, admission);
+    }
+
+    /**
+     * Constructs a cache bounded by total weight.
+     *
+     * @param maxWeight The largest total weight the cache may hold.
+     * @param weigher   Computes the weight of each entry, or null to count
+     *                  entries.
+     * @param admission true to evict with W-TinyLFU instead of plain LRU.
+     */
+    public LruCache(long maxWeight, Weigher weigher, boolean admission) {
+        if (maxWeight <= 0) {
+            throw new IllegalArgumentException("Illegal maximum weight: " + maxWeight);
+        }
+        this.maxWeight = maxWeight;
+        this.weigher = weigher;
+
+        // Without a weigher the entry count is bounded, so size the table and
+        // sketch for it. With one the entry count is unknown, so start them at
+        // 2^16 entries; the table grows if more arrive.
+        int expected = (int) (weigher == null ? Math.min(maxWeight, 1 << 30) : Math.min(maxWeight, 1 << 16));
+        this.slots = new HashTable((int) Math.min(expected / 0.75, 1 << 30));
+        this.sketch = admission ? new FrequencySketch(Integer.highestOneBit(Math.max(1, expected - 1)) << 1) : null;
+        this.maxWindowWeight = admission ? Math.max(1, maxWeight / 100) : maxWeight;
+        this.maxProtectedWeight = (maxWeight - maxWindowWeight) * 8 / 10;
+    }
+
+    /**
+     * Returns the number of entries in the cache.
+     *
+     * @return The number of entries.
+     */
+    public int size() {
+        return count;
+    }
+
+    /**
+     * Returns the total weight of the entries in the cache.
+     *
+     * @return The total weight.
+     */
+    public long weight() {
+        return totalWeight;
+    }
+
+    /**
+     * Returns the number of lookups that found their key.
+     *
+     * @return The hit count.
+     */
+    public long hitCount() {
+        return hits;
+    }
+
+    /**
+     * Returns the number of lookups that did not find their key.
+     *
+     * @return The miss count.
+     */
+    public long missCount() {
+        return misses;
+    }
+
+    /**
+     * Returns the number of entries evicted to stay within the limit.
+     *
+     * @return The eviction count.
+     */
+    public long evictionCount() {
+        return evictions;
+    }
+
+    /**
+     * Returns the number of entries that left the window and lost the
+     * admission contest for a place in the main area. Also counts entries too
+     * heavy to ever fit.
+     *
+     * @return The rejection count.
+     */
+    public long rejectionCount() {
+        return rejections;
+    }
+
+    private int findSlot(String key) {
+        return slots.get(key) - 1;
+    }
+
+    /**
+     * Retrieves the value for a key and marks the entry as most recently used.
+     * If the key is not cached, the method returns 0. Counts as a hit or miss.
+     *
+     * @param key The key whose associated value needs to be returned.
+     * @return The cached value if present, otherwise 0.
+     */
+    public int get(String key) {
+        if (sketch != null) {
+            sketch.increment(HashTable.hash(key));
+        }
+        int slot = findSlot(key);
+        if (slot < 0) {
+            misses++;
+            return 0;
+        }
+        hits++;
+        touch(slot);
+        return values[slot];
+    }
+
+    /**
+     * Read-through lookup: returns the cached value for a key, or on a miss
+     * loads it with the given function, caches it and returns it.
+     *
+     * @param key    The key whose associated value needs to be returned.
+     * @param loader Loads the value of a key that is not cached.
+     * @return The cached or freshly loaded value.
+     */
+    public int get(String key, ToIntFunction<String> loader) {
+        int hash = HashTable.hash(key);
+        if (sketch != null) {
+            sketch.increment(hash);
+        }
+        int slot = findSlot(key);
+        if (slot >= 0) {
+            hits++;
+            touch(slot);
+            return values[slot];
+        }
+        misses++;
+        int value = loader.applyAsInt(key);
+        put(key, value, hash);
+        return value;
+    }
+
+    /**
+     * Checks whether a key is cached, without counting a hit or miss or
+     * changing the recency order.
+     *
+     * @param key The key to look for.
+     * @return true if the key is cached, false otherwise.
+     */
+    public boolean containsKey(String key) {
+        return findSlot(key) >= 0;
+    }
+
+    /**
+     * Inserts or updates a key-value pair and marks it as most recently used.
+     * If the cache is over its limit afterwards, entries are evicted: the least
+     * recently used ones, or with admission enabled whichever W-TinyLFU picks.
+     * A write counts as a request for the key.
+     *
+     * @param key   The key to be inserted.
+     * @param value The value associated with the key.
+     */
+    public void set(String key, int value) {
+        int hash = HashTable.hash(key);
+        if (sketch != null) {
+            sketch.increment(hash);
+        }
+        put(key, value, hash);
+    }
+
+    private void put(String key, int value, int hash) {
+        int weight = weigher == null ? 1 : weigher.weigh(key, value);
+        if (weight < 0) {
+            throw new IllegalArgumentException("Negative weight for key " + key);
+        }
+
+        int slot = findSlot(key);
+        if (slot >= 0) {
+            // Re-add the slot so its list's weight picks up the new weight.
+            RecencyList list = lists[slot];
+            list.remove(slot);
+            totalWeight += weight - weights[slot];
+            values[slot] = value;
+            weights[slot] = weight;
+            list.addToHead(slot);
+            touch(slot);
+            evict();
+            return;
+        }
+
+        if (weight > maxWeight) {
+            // Could never fit, even in an empty cache.
+            rejections++;
+            return;
+        }
+
+        slot = allocateSlot();
+        keys[slot] = key;
+        hashes[slot] = hash;
+        values[slot] = value;
+        weights[slot] = weight;
+        slots.set(key, slot + 1);
+        window.addToHead(slot);
+        count++;
+        totalWeight += weight;
+        evict();
+    }
+
+    /**
+     * Takes a slot from the free list, or a fresh one, doubling the slot
+     * arrays if every slot is in use.
+     *
+     * @return The index of the slot.
+     */
+    private int allocateSlot() {
+        if (freeSlot != NONE) {
+            int slot = freeSlot;
+            freeSlot = after[slot];
+            return slot;
+        }
+        if (usedSlots == keys.length) {
+            int capacity = keys.length * 2;
+            keys = Arrays.copyOf(keys, capacity);
+            hashes = Arrays.copyOf(hashes, capacity);
+            values = Arrays.copyOf(values, capacity);
+            weights = Arrays.copyOf(weights, capacity);
+            lists = Arrays.copyOf(lists, capacity);
+            before = Arrays.copyOf(before, capacity);
+            after = Arrays.copyOf(after, capacity);
+        }
+        return usedSlots++;
+    }
+
+    /**
+     * Removes the entry for the given key.
+     *
+     * @param key The key to be removed.
+     * @return true if the key was cached and removed, false otherwise.
+     */
+    public boolean remove(String key) {
+        int slot = findSlot(key);
+        if (slot < 0) {
+            return false;
+        }
+        unlink(slot);
+        return true;
+    }
+
+    /**
+     * Marks a slot as most recently used in its list. A hit in probation
+     * promotes the entry to protected, demoting protected's least recently
+     * used entries back to probation if protected grows past its share.
+     */
+    private void touch(int slot) {
+        RecencyList list = lists[slot];
+        if (list == probation) {
+            probation.remove(slot);
+            protect.addToHead(slot);
+            while (protect.weight > maxProtectedWeight && protect.tail != slot) {
+                int demoted = protect.tail;
+                protect.remove(demoted);
+                probation.addToHead(demoted);
+            }
+        } else if (slot != list.head) {
+            list.remove(slot);
+            list.addToHead(slot);
+        }
+    }
+
+    /**
+     * Evicts entries until the total weight is within the limit. Without
+     * admission this evicts the least recently used entries of the window,
+     * which then holds every entry.
+     *
+     * With admission, entries overflowing the window first move to the head of
+     * probation as candidates. While the cache is too heavy, the oldest
+     * candidate is compared with the victim, probation's least recently used
+     * entry that is not a candidate; the one the sketch has seen less often is
+     * evicted, and ties go against the candidate.
+     */
+    private void evict() {
+        if (sketch == null) {
+            while (totalWeight > maxWeight && window.tail != NONE) {
+                unlink(window.tail);
+                evictions++;
+            }
+            return;
+        }
+
+        int candidate = NONE;
+        int candidates = 0;
+        while (window.weight > maxWindowWeight) {
+            int slot = window.tail;
+            window.remove(slot);
+            probation.addToHead(slot);
+            if (candidate == NONE) {
+                candidate = slot;
+            }
+            candidates++;
+        }
+
+        while (totalWeight > maxWeight) {
+            int victim = probation.tail;
+            if (candidates > 0 && victim == candidate) {
+                // Only candidates are left in probation.
+                victim = NONE;
+            }
+            if (victim == NONE) {
+                victim = protect.tail;
+            }
+            if (candidates == 0) {
+                unlink(victim != NONE ? victim : window.tail);
+            } else if (victim != NONE && sketch.frequency(hashes[candidate]) > sketch.frequency(hashes[victim])) {
+                unlink(victim);
+            } else {
+                int loser = candidate;
+                candidate = before[candidate];
+                candidates--;
+                unlink(loser);
+                if (victim != NONE) {
+                    rejections++;
+                }
+            }
+            evictions++;
+        }
+    }
+
+    /**
+     * Removes an entry from the table and its recency list, and frees its
+     * slot.
+     */
+    private void unlink(int slot) {
+        slots.remove(keys[slot]);
+        lists[slot].remove(slot);
+        count--;
+        totalWeight -= weights[slot];
+        keys[slot] = null;
+        after[slot] = freeSlot;
+        freeSlot = slot;
+    }
+
+    /**
+     * Prints the cached entries from most to least recently used. With
+     * admission enabled the window comes first, then protected, then
+     * probation, each in recency order.
+     */
+    public void printCache() {
+        for (RecencyList list : new RecencyList[] { window, protect, probation }) {
+            for (int slot = list.head; slot != NONE; slot = after[slot]) {
+                System.out.println("{" + keys[slot] + "= " + values[slot] + "}");
+            }
+        }
+    }
+
+    /**
+     * Returns the cached keys in the order printCache prints them.
+     *
+     * @return ArrayList of all cached keys.
+     */
+    public ArrayList<String> keys() {
+        ArrayList<String> allKeys = new ArrayList<>(count);
+        for (RecencyList list : new RecencyList[] { window, protect, probation }) {
+            for (int slot = list.head; slot != NONE; slot = after[slot]) {
+                allKeys.add(keys[slot]);
+            }
+        }
+        return allKeys;
+    }
+
+    /**
+     * A count-min sketch of 4-bit counters estimating how often each key hash
+     * was requested recently. Counters are halved after a sample of requests so
+     * that old popularity fades.
+     */
+    private static class FrequencySketch {
+
+        // Seeds giving each of the four rows an independent index.
+        private static final int[] SEEDS = { 0x9e3779b9, 0x7f4a7c15, 0x85ebca6b, 0xc2b2ae35 };
+
+        // Largest value a counter reaches.
+        private static final int MAX_COUNT = 15;
+
+        private final byte[][] rows;
+        private final int mask;
+        private final int sampleSize;
+        private int additions;
+
+        FrequencySketch(int width) {
+            width = Math.max(16, width);
+            rows = new byte[SEEDS.length][width];
+            mask = width - 1;
+            sampleSize = 10 * width;
+        }
+
+        private int indexOf(int hash, int row) {
+            return HashTable.mix(hash ^ SEEDS[row]) & mask;
+        }
+
+        void increment(int hash) {
+            for (int row = 0; row < rows.length; row++) {
+                int index = indexOf(hash, row);
+                if (rows[row][index] < MAX_COUNT) {
+                    rows[row][index]++;
+                }
+            }
+            if (++additions == sampleSize) {
+                reset();
+            }
+        }
+
+        int frequency(int hash) {
+            int min = MAX_COUNT;
+            for (int row = 0; row < rows.length; row++) {
+                min = Math.min(min, rows[row][indexOf(hash, row)]);
+            }
+            return min;
+        }
+
+        private void reset() {
+            for (byte[] row : rows) {
+                for (int i = 0; i < row.length; i++) {
+                    row[i] >>= 1;
+                }
+            }
+            additions /= 2;
+        }
+    }
+
+}
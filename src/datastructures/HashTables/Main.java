@@ -13,6 +13,70 @@ public class Main {
 
         System.out.println(myHashTable.get("lumber"));
         System.out.println(myHashTable.get("bolts"));
+
+        // Writing an existing key overwrites it instead of growing the chain.
+        myHashTable.set("nails", 120);
+        myHashTable.compute("nails", v -> v + 1);
+        myHashTable.merge("bolts", 5, Integer::sum);
+        myHashTable.remove("tile");
+        System.out.println(myHashTable.get("nails"));
+        System.out.println(myHashTable.get("bolts"));
+        System.out.println(myHashTable.keys());
+
+        // Load enough keys to trigger several incremental resizes.
+        HashTable bigTable = new HashTable();
+        for (int i = 0; i < 100_000; i++) {
+            bigTable.set("key" + i, i);
+        }
+        System.out.println(bigTable.size() + " keys in " + bigTable.capacity() + " buckets");
+        System.out.println(bigTable.get("key99999"));
+
+        // Views read the buckets directly, and the entry spliterator splits by
+        // bucket range so the parallel stream really runs in parallel.
+        long total = bigTable.entries().parallelStream().mapToLong(HashTable.Node::getValue).sum();
+        System.out.println(total);
+        myHashTable.forEach((key, value) -> System.out.println(key + " -> " + value));
+
+        // Open addressing keeps keys and values in flat arrays.
+        OpenAddressingHashTable flatTable = new OpenAddressingHashTable();
+        flatTable.set("nails", 100);
+        flatTable.set("tile", 50);
+        flatTable.set("lumber", 80);
+        flatTable.remove("tile");
+        flatTable.printTable();
+        System.out.println(flatTable.get("lumber"));
+        System.out.println(flatTable.get("tile"));
+
+        // Primitive tables store numeric keys without Strings or boxing.
+        IntIntHashTable ids = new IntIntHashTable();
+        ids.set(42, 7);
+        ids.merge(42, 1, Integer::sum);
+        ids.set(0, 3);
+        System.out.println(ids.get(42) + " " + ids.get(0) + " " + ids.size());
+
+        LongLongHashTable offsets = new LongLongHashTable();
+        offsets.set(9_000_000_000L, 123_456_789_012L);
+        System.out.println(offsets.get(9_000_000_000L));
+
+        ObjectIntHashTable<String> counts = new ObjectIntHashTable<>();
+        counts.merge("nails", 1, Integer::sum);
+        counts.merge("nails", 1, Integer::sum);
+        System.out.println(counts.get("nails"));
+
+        // Off-heap table in a direct buffer; OffHeapHashTable.open maps a file instead.
+        OffHeapHashTable offHeap = OffHeapHashTable.allocate();
+        offHeap.set("nails", 100);
+        offHeap.set("lumber", 80);
+        System.out.println(offHeap.get("lumber") + " " + offHeap.size());
+
+        // Bounded cache: the least recently used key is evicted.
+        LruCache cache = new LruCache(2);
+        cache.set("nails", 100);
+        cache.set("tile", 50);
+        cache.get("nails");
+        cache.set("lumber", 80);
+        cache.printCache();
+        System.out.println("hits " + cache.hitCount() + ", evictions " + cache.evictionCount());
     }
 
 }
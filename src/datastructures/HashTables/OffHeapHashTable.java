@@ -0,0 +1,690 @@
+package datastructures.HashTables;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+
+/**
+ * A Hash Table for String keys and int values whose buckets and entries live
+ * outside the Java heap, in a region of direct or memory-mapped ByteBuffers.
+ *
+ * The region is either direct memory or a memory-mapped file. Because every
+ * offset inside the region is relative to its start, a file-backed table can be
+ * closed and opened again later without reloading: open just maps the file and
+ * checks the header.
+ *
+ * Layout of the region:
+ *
+ * <pre>
+ * header   magic, version, slot count, entry count, tombstones, data end
+ * slots    slot count * (int hash, int unused, long entry offset), open
+ *          addressing
+ * data     entries appended one after another: int value, int key length,
+ *          key bytes (UTF-8)
+ * </pre>
+ *
+ * An entry offset of 0 marks an empty slot and -1 a removed one. A single
+ * ByteBuffer is limited to 2 GB, so the region is split into 1 GB chunks and
+ * offsets are longs; a table can hold as much data as there is memory or disk.
+ */
+public class OffHeapHashTable implements Closeable {
+
+    // Identifies a region written by this class.
+    private static final int MAGIC = 0x48545442;
+
+    // Layout version, bumped if the format ever changes.
+    private static final int VERSION = 2;
+
+    // Byte offsets of the header fields.
+    private static final int MAGIC_OFFSET = 0;
+    private static final int VERSION_OFFSET = 4;
+    private static final int CAPACITY_OFFSET = 8;
+    private static final int COUNT_OFFSET = 12;
+    private static final int TOMBSTONES_OFFSET = 16;
+    private static final int DATA_END_OFFSET = 24;
+    private static final int HEADER_SIZE = 32;
+
+    // Size of one slot: the key hash, 4 bytes of padding and the entry offset.
+    private static final int SLOT_SIZE = 16;
+
+    // Bytes in front of the key bytes of every entry: value and key length.
+    private static final int ENTRY_HEADER_SIZE = 8;
+
+    // Entry offset of an empty slot.
+    private static final long EMPTY = 0;
+
+    // Entry offset of a slot whose entry was removed.
+    private static final long TOMBSTONE = -1;
+
+    // Default number of slots. Always a power of two.
+    private static final int DEFAULT_CAPACITY = 1024;
+
+    // Largest number of slots.
+    private static final int MAXIMUM_CAPACITY = 1 << 30;
+
+    // Data bytes reserved per slot when the region is sized.
+    private static final int DATA_BYTES_PER_SLOT = 32;
+
+    // Ratio of used slots to capacity at which the region is rebuilt.
+    private static final float LOAD_FACTOR = 0.5f;
+
+    // The region holding header, slots and data.
+    private Region region;
+
+    // The file channel for a file-backed table, otherwise null.
+    private FileChannel channel;
+
+    // The file backing the table, otherwise null.
+    private final Path file;
+
+    /**
+     * Off-heap memory addressed by long offsets. It is stored as ByteBuffer
+     * chunks of 1 GB, so it can grow past the 2 GB limit of a single buffer.
+     * Slots never straddle two chunks. An entry may, and then its ints and
+     * bytes are read and written one byte at a time.
+     */
+    private static final class Region {
+
+        private static final int CHUNK_SHIFT = 30;
+        private static final long CHUNK_SIZE = 1L << CHUNK_SHIFT;
+        private static final int CHUNK_MASK = (int) CHUNK_SIZE - 1;
+
+        // The chunks in address order. All but the last are CHUNK_SIZE long.
+        private final ByteBuffer[] chunks;
+
+        // Total size in bytes.
+        final long size;
+
+        private Region(ByteBuffer[] chunks, long size) {
+            this.chunks = chunks;
+            this.size = size;
+        }
+
+        /**
+         * Allocates a zeroed region in direct memory.
+         */
+        static Region allocate(long size) {
+            ByteBuffer[] chunks = new ByteBuffer[chunkCount(size)];
+            for (int i = 0; i < chunks.length; i++) {
+                chunks[i] = ByteBuffer.allocateDirect(chunkLength(size, i));
+            }
+            return new Region(chunks, size);
+        }
+
+        /**
+         * Maps the first size bytes of a file, growing the file if it is
+         * shorter.
+         */
+        static Region map(FileChannel channel, long size) throws IOException {
+            ByteBuffer[] chunks = new ByteBuffer[chunkCount(size)];
+            for (int i = 0; i < chunks.length; i++) {
+                chunks[i] = channel.map(FileChannel.MapMode.READ_WRITE, i * CHUNK_SIZE, chunkLength(size, i));
+            }
+            return new Region(chunks, size);
+        }
+
+        private static int chunkCount(long size) {
+            return (int) ((size + CHUNK_SIZE - 1) >>> CHUNK_SHIFT);
+        }
+
+        private static int chunkLength(long size, int chunk) {
+            return (int) Math.min(CHUNK_SIZE, size - chunk * CHUNK_SIZE);
+        }
+
+        private ByteBuffer chunk(long offset) {
+            return chunks[(int) (offset >>> CHUNK_SHIFT)];
+        }
+
+        byte get(long offset) {
+            return chunk(offset).get((int) offset & CHUNK_MASK);
+        }
+
+        void put(long offset, byte value) {
+            chunk(offset).put((int) offset & CHUNK_MASK, value);
+        }
+
+        int getInt(long offset) {
+            ByteBuffer chunk = chunk(offset);
+            int position = (int) offset & CHUNK_MASK;
+            if (position + 4 <= chunk.capacity()) {
+                return chunk.getInt(position);
+            }
+            int value = 0;
+            for (int i = 0; i < 4; i++) {
+                value = value << 8 | (get(offset + i) & 0xff);
+            }
+            return value;
+        }
+
+        void putInt(long offset, int value) {
+            ByteBuffer chunk = chunk(offset);
+            int position = (int) offset & CHUNK_MASK;
+            if (position + 4 <= chunk.capacity()) {
+                chunk.putInt(position, value);
+                return;
+            }
+            for (int i = 0; i < 4; i++) {
+                put(offset + i, (byte) (value >>> (24 - 8 * i)));
+            }
+        }
+
+        // Longs are only stored in the header and slots, which are 8-byte
+        // aligned and so never straddle two chunks.
+        long getLong(long offset) {
+            return chunk(offset).getLong((int) offset & CHUNK_MASK);
+        }
+
+        void putLong(long offset, long value) {
+            chunk(offset).putLong((int) offset & CHUNK_MASK, value);
+        }
+
+        void get(long offset, byte[] bytes) {
+            int done = 0;
+            while (done < bytes.length) {
+                ByteBuffer chunk = chunk(offset + done);
+                int position = (int) (offset + done) & CHUNK_MASK;
+                int length = Math.min(bytes.length - done, chunk.capacity() - position);
+                chunk.get(position, bytes, done, length);
+                done += length;
+            }
+        }
+
+        void put(long offset, byte[] bytes) {
+            int done = 0;
+            while (done < bytes.length) {
+                ByteBuffer chunk = chunk(offset + done);
+                int position = (int) (offset + done) & CHUNK_MASK;
+                int length = Math.min(bytes.length - done, chunk.capacity() - position);
+                chunk.put(position, bytes, done, length);
+                done += length;
+            }
+        }
+
+        /**
+         * Writes the chunks of a mapped region through to the storage device.
+         */
+        void force() {
+            for (ByteBuffer chunk : chunks) {
+                if (chunk instanceof MappedByteBuffer) {
+                    ((MappedByteBuffer) chunk).force();
+                }
+            }
+        }
+    }
+
+    /**
+     * Constructs a table over an already initialized region.
+     *
+     * @param region  The region.
+     * @param channel The backing file channel, or null.
+     * @param file    The backing file, or null.
+     */
+    private OffHeapHashTable(Region region, FileChannel channel, Path file) {
+        this.region = region;
+        this.channel = channel;
+        this.file = file;
+    }
+
+    /**
+     * Creates an empty table in direct memory with the default capacity.
+     *
+     * @return The new table.
+     */
+    public static OffHeapHashTable allocate() {
+        return allocate(DEFAULT_CAPACITY);
+    }
+
+    /**
+     * Creates an empty table in direct memory.
+     *
+     * @param initialCapacity The minimum number of slots to start with.
+     * @return The new table.
+     */
+    public static OffHeapHashTable allocate(int initialCapacity) {
+        int capacity = tableSizeFor(initialCapacity);
+        Region region = Region.allocate(regionSize(capacity, (long) capacity * DATA_BYTES_PER_SLOT));
+        initialize(region, capacity);
+        return new OffHeapHashTable(region, null, null);
+    }
+
+    /**
+     * Opens a table stored in a file, creating the file if it does not exist.
+     * An existing table is mapped as it is, so reopening costs no inserts.
+     *
+     * @param file            The file backing the table.
+     * @param initialCapacity The number of slots to use if the file is new.
+     * @return The opened table.
+     * @throws IOException If the file cannot be opened, is not a table, or its
+     *                     header does not fit its size.
+     */
+    public static OffHeapHashTable open(Path file, int initialCapacity) throws IOException {
+        FileChannel channel = FileChannel.open(file, StandardOpenOption.READ, StandardOpenOption.WRITE,
+                StandardOpenOption.CREATE);
+        try {
+            long fileSize = channel.size();
+            if (fileSize == 0) {
+                int capacity = tableSizeFor(initialCapacity);
+                Region region = Region.map(channel, regionSize(capacity, (long) capacity * DATA_BYTES_PER_SLOT));
+                initialize(region, capacity);
+                return new OffHeapHashTable(region, channel, file);
+            }
+
+            if (fileSize < HEADER_SIZE) {
+                throw new IOException("Not a hash table file: " + file);
+            }
+            Region region = Region.map(channel, fileSize);
+            if (region.getInt(MAGIC_OFFSET) != MAGIC || region.getInt(VERSION_OFFSET) != VERSION) {
+                throw new IOException("Not a hash table file: " + file);
+            }
+            checkHeader(region, fileSize, file);
+            return new OffHeapHashTable(region, channel, file);
+        } catch (IOException | RuntimeException e) {
+            channel.close();
+            throw e;
+        }
+    }
+
+    /**
+     * Checks that the header of an existing file describes a table that fits
+     * in the file, so a truncated or corrupt file is refused up front instead
+     * of failing on some later lookup.
+     *
+     * @param region   The mapped file.
+     * @param fileSize The size of the file.
+     * @param file     The file, for error messages.
+     * @throws IOException If a header field is out of range.
+     */
+    private static void checkHeader(Region region, long fileSize, Path file) throws IOException {
+        int capacity = region.getInt(CAPACITY_OFFSET);
+        if (capacity < 2 || capacity > MAXIMUM_CAPACITY || (capacity & (capacity - 1)) != 0) {
+            throw new IOException("Corrupt hash table file " + file + ": bad slot count " + capacity);
+        }
+        long dataStart = slotPosition(capacity);
+        if (dataStart > fileSize) {
+            throw new IOException("Corrupt hash table file " + file + ": " + capacity + " slots do not fit in "
+                    + fileSize + " bytes");
+        }
+
+        // At least one slot must stay empty, or a probe for a missing key would
+        // never end.
+        int count = region.getInt(COUNT_OFFSET);
+        int tombstones = region.getInt(TOMBSTONES_OFFSET);
+        if (count < 0 || tombstones < 0 || (long) count + tombstones >= capacity) {
+            throw new IOException("Corrupt hash table file " + file + ": " + count + " entries and " + tombstones
+                    + " tombstones in " + capacity + " slots");
+        }
+
+        long dataEnd = region.getLong(DATA_END_OFFSET);
+        if (dataEnd < dataStart || dataEnd > fileSize) {
+            throw new IOException("Corrupt hash table file " + file + ": data end " + dataEnd + " outside "
+                    + dataStart + ".." + fileSize);
+        }
+    }
+
+    /**
+     * Rounds the requested capacity up to the next power of two.
+     *
+     * @param capacity The requested number of slots.
+     * @return The smallest power of two greater than or equal to capacity.
+     */
+    private static int tableSizeFor(int capacity) {
+        if (capacity < 0 || capacity > MAXIMUM_CAPACITY) {
+            throw new IllegalArgumentException("Illegal initial capacity: " + capacity);
+        }
+        int n = 2;
+        while (n < capacity) {
+            n <<= 1;
+        }
+        return n;
+    }
+
+    /**
+     * Computes the region size for a slot count and data area size.
+     *
+     * @param capacity  The number of slots.
+     * @param dataBytes The size of the data area.
+     * @return The total size in bytes.
+     */
+    private static long regionSize(int capacity, long dataBytes) {
+        return slotPosition(capacity) + dataBytes;
+    }
+
+    /**
+     * Writes an empty table header and clears the slots.
+     *
+     * @param region   The region to initialize.
+     * @param capacity The number of slots.
+     */
+    private static void initialize(Region region, int capacity) {
+        region.putInt(MAGIC_OFFSET, MAGIC);
+        region.putInt(VERSION_OFFSET, VERSION);
+        region.putInt(CAPACITY_OFFSET, capacity);
+        region.putInt(COUNT_OFFSET, 0);
+        region.putInt(TOMBSTONES_OFFSET, 0);
+        region.putLong(DATA_END_OFFSET, slotPosition(capacity));
+        for (int i = 0; i < capacity; i++) {
+            region.putLong(slotPosition(i), 0L);
+            region.putLong(slotPosition(i) + 8, EMPTY);
+        }
+    }
+
+    /**
+     * Returns the number of entries stored in the table.
+     *
+     * @return The number of entries.
+     */
+    public int size() {
+        return region.getInt(COUNT_OFFSET);
+    }
+
+    /**
+     * Returns the current number of slots in the table.
+     *
+     * @return The number of slots.
+     */
+    public int capacity() {
+        return region.getInt(CAPACITY_OFFSET);
+    }
+
+    private static long slotPosition(int slot) {
+        return HEADER_SIZE + (long) slot * SLOT_SIZE;
+    }
+
+    /**
+     * Checks whether the entry at the given offset has the given key bytes.
+     *
+     * @param entry    The offset of the entry.
+     * @param keyBytes The UTF-8 bytes of the key.
+     * @return true if the stored key equals the given one.
+     */
+    private boolean keyEquals(long entry, byte[] keyBytes) {
+        if (region.getInt(entry + 4) != keyBytes.length) {
+            return false;
+        }
+        long keyStart = entry + ENTRY_HEADER_SIZE;
+        for (int i = 0; i < keyBytes.length; i++) {
+            if (region.get(keyStart + i) != keyBytes[i]) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Finds the slot holding the given key.
+     *
+     * @param hash     The hash of the key.
+     * @param keyBytes The UTF-8 bytes of the key.
+     * @return The slot index, or -1 if the key is not in the table.
+     */
+    private int indexOf(int hash, byte[] keyBytes) {
+        int mask = capacity() - 1;
+        int slot = hash & mask;
+        while (true) {
+            long position = slotPosition(slot);
+            long entry = region.getLong(position + 8);
+            if (entry == EMPTY) {
+                return -1;
+            }
+            if (entry != TOMBSTONE && region.getInt(position) == hash && keyEquals(entry, keyBytes)) {
+                return slot;
+            }
+            slot = (slot + 1) & mask;
+        }
+    }
+
+    /**
+     * Inserts a key-value pair into the table, overwriting the value if the key
+     * is already present. New keys are appended to the data area. When the
+     * slots or the data area run out the region is rebuilt: with twice the
+     * slots if the live entries need them, otherwise at the same capacity to
+     * reclaim tombstones and the bytes of removed entries.
+     *
+     * @param key   The key to be inserted.
+     * @param value The value associated with the key.
+     * @throws IllegalStateException If the table already has the maximum
+     *                               number of slots and the entries need more.
+     */
+    public void set(String key, int value) {
+        byte[] keyBytes = key.getBytes(StandardCharsets.UTF_8);
+        int hash = HashTable.hash(key);
+
+        int slot = indexOf(hash, keyBytes);
+        if (slot != -1) {
+            region.putInt(region.getLong(slotPosition(slot) + 8), value);
+            return;
+        }
+
+        int capacity = capacity();
+        int count = size();
+        int used = count + region.getInt(TOMBSTONES_OFFSET);
+        long entrySize = ENTRY_HEADER_SIZE + keyBytes.length;
+        if (used + 1 > capacity * LOAD_FACTOR || region.getLong(DATA_END_OFFSET) + entrySize > region.size) {
+            // Grow once live entries fill three quarters of the usable slots.
+            // Below that, tombstones hold at least a quarter of them, so
+            // compacting frees enough room to pay for the rebuild.
+            int newCapacity = capacity;
+            if (count + 1 > capacity * LOAD_FACTOR * 0.75f) {
+                if (capacity >= MAXIMUM_CAPACITY) {
+                    throw new IllegalStateException("Table is full at maximum capacity: " + count + " entries");
+                }
+                newCapacity = capacity * 2;
+            }
+            long liveBytes = liveDataBytes() + entrySize;
+            rebuild(newCapacity, Math.max((long) newCapacity * DATA_BYTES_PER_SLOT, liveBytes * 2));
+        }
+        insert(region, hash, keyBytes, value);
+    }
+
+    /**
+     * Adds up the data bytes of the live entries.
+     *
+     * @return The bytes a rebuild has to copy into the new data area.
+     */
+    private long liveDataBytes() {
+        long bytes = 0;
+        int capacity = capacity();
+        for (int slot = 0; slot < capacity; slot++) {
+            long entry = region.getLong(slotPosition(slot) + 8);
+            if (entry != EMPTY && entry != TOMBSTONE) {
+                bytes += ENTRY_HEADER_SIZE + region.getInt(entry + 4);
+            }
+        }
+        return bytes;
+    }
+
+    /**
+     * Appends an entry for a key known to be absent and points a free slot at it.
+     * The caller guarantees there is room.
+     *
+     * @param region   The region to insert into.
+     * @param hash     The hash of the key.
+     * @param keyBytes The UTF-8 bytes of the key.
+     * @param value    The value of the entry.
+     */
+    private static void insert(Region region, int hash, byte[] keyBytes, int value) {
+        long entry = region.getLong(DATA_END_OFFSET);
+        region.putInt(entry, value);
+        region.putInt(entry + 4, keyBytes.length);
+        region.put(entry + ENTRY_HEADER_SIZE, keyBytes);
+        region.putLong(DATA_END_OFFSET, entry + ENTRY_HEADER_SIZE + keyBytes.length);
+
+        int mask = region.getInt(CAPACITY_OFFSET) - 1;
+        int slot = hash & mask;
+        while (true) {
+            long position = slotPosition(slot);
+            long current = region.getLong(position + 8);
+            if (current == EMPTY || current == TOMBSTONE) {
+                if (current == TOMBSTONE) {
+                    region.putInt(TOMBSTONES_OFFSET, region.getInt(TOMBSTONES_OFFSET) - 1);
+                }
+                region.putInt(position, hash);
+                region.putLong(position + 8, entry);
+                break;
+            }
+            slot = (slot + 1) & mask;
+        }
+        region.putInt(COUNT_OFFSET, region.getInt(COUNT_OFFSET) + 1);
+    }
+
+    /**
+     * Rebuilds the region with the given number of slots and data area size,
+     * copying only live entries so space held by removed entries is reclaimed.
+     *
+     * A file-backed table is rebuilt into a temporary file next to it, which is
+     * then renamed over the original. Until the rename, the original file is
+     * left untouched, so a crash or full disk mid-rebuild cannot corrupt it.
+     *
+     * @param newCapacity  The new number of slots.
+     * @param newDataBytes The new size of the data area.
+     */
+    private void rebuild(int newCapacity, long newDataBytes) {
+        long size = regionSize(newCapacity, newDataBytes);
+        if (channel == null) {
+            Region fresh = Region.allocate(size);
+            initialize(fresh, newCapacity);
+            copyLive(fresh);
+            region = fresh;
+            return;
+        }
+
+        Path temp = file.resolveSibling(file.getFileName() + ".rebuild");
+        FileChannel newChannel = null;
+        try {
+            newChannel = FileChannel.open(temp, StandardOpenOption.READ, StandardOpenOption.WRITE,
+                    StandardOpenOption.CREATE, StandardOpenOption.TRUNCATE_EXISTING);
+            Region fresh = Region.map(newChannel, size);
+            initialize(fresh, newCapacity);
+            copyLive(fresh);
+            fresh.force();
+            Files.move(temp, file, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+
+            // The new channel follows the file through the rename.
+            FileChannel oldChannel = channel;
+            channel = newChannel;
+            region = fresh;
+            oldChannel.close();
+        } catch (IOException e) {
+            try {
+                if (newChannel != null) {
+                    newChannel.close();
+                }
+                Files.deleteIfExists(temp);
+            } catch (IOException suppressed) {
+                e.addSuppressed(suppressed);
+            }
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    /**
+     * Inserts every live entry of the current region into a freshly
+     * initialized one.
+     *
+     * @param target The region to copy into.
+     */
+    private void copyLive(Region target) {
+        int capacity = capacity();
+        for (int slot = 0; slot < capacity; slot++) {
+            long position = slotPosition(slot);
+            long entry = region.getLong(position + 8);
+            if (entry != EMPTY && entry != TOMBSTONE) {
+                byte[] keyBytes = new byte[region.getInt(entry + 4)];
+                region.get(entry + ENTRY_HEADER_SIZE, keyBytes);
+                insert(target, region.getInt(position), keyBytes, region.getInt(entry));
+            }
+        }
+    }
+
+    /**
+     * Retrieves the value associated with the provided key. If the key does not
+     * exist in the table, the method returns 0.
+     *
+     * @param key The key whose associated value needs to be returned.
+     * @return The value associated with the key if it exists, otherwise 0.
+     */
+    public int get(String key) {
+        int slot = indexOf(HashTable.hash(key), key.getBytes(StandardCharsets.UTF_8));
+        return slot == -1 ? 0 : region.getInt(region.getLong(slotPosition(slot) + 8));
+    }
+
+    /**
+     * Checks whether the table contains the given key.
+     *
+     * @param key The key to look for.
+     * @return true if the key is present, false otherwise.
+     */
+    public boolean containsKey(String key) {
+        return indexOf(HashTable.hash(key), key.getBytes(StandardCharsets.UTF_8)) != -1;
+    }
+
+    /**
+     * Removes the entry for the given key by marking its slot as a tombstone.
+     * The entry bytes stay in the data area until the next rebuild.
+     *
+     * @param key The key to be removed.
+     * @return true if the key was present and removed, false otherwise.
+     */
+    public boolean remove(String key) {
+        int slot = indexOf(HashTable.hash(key), key.getBytes(StandardCharsets.UTF_8));
+        if (slot == -1) {
+            return false;
+        }
+        region.putLong(slotPosition(slot) + 8, TOMBSTONE);
+        region.putInt(COUNT_OFFSET, size() - 1);
+        region.putInt(TOMBSTONES_OFFSET, region.getInt(TOMBSTONES_OFFSET) + 1);
+        return true;
+    }
+
+    /**
+     * Returns an ArrayList containing all the keys present in the table. The
+     * keys are decoded from the region, so this allocates a String per key.
+     *
+     * @return ArrayList of all keys in the table.
+     */
+    public ArrayList<String> keys() {
+        ArrayList<String> allKeys = new ArrayList<>(size());
+        int capacity = capacity();
+        for (int slot = 0; slot < capacity; slot++) {
+            long entry = region.getLong(slotPosition(slot) + 8);
+            if (entry != EMPTY && entry != TOMBSTONE) {
+                byte[] keyBytes = new byte[region.getInt(entry + 4)];
+                region.get(entry + ENTRY_HEADER_SIZE, keyBytes);
+                allKeys.add(new String(keyBytes, StandardCharsets.UTF_8));
+            }
+        }
+        return allKeys;
+    }
+
+    /**
+     * Writes any changes of a file-backed table through to the storage device.
+     * Does nothing for a table in direct memory.
+     */
+    public void force() {
+        region.force();
+    }
+
+    /**
+     * Flushes a file-backed table and closes its file. The table must not be
+     * used afterwards.
+     *
+     * @throws IOException If closing the file fails.
+     */
+    @Override
+    public void close() throws IOException {
+        force();
+        if (channel != null) {
+            channel.close();
+        }
+    }
+
+}
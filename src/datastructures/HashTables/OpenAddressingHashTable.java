@@ -0,0 +1,295 @@
+package datastructures.HashTables;
+
+import java.util.ArrayList;
+
+/**
+ * A Hash Table that stores its entries directly in two parallel arrays instead
+ * of chaining Node objects.
+ *
+ * Collisions are resolved with linear probing: if a slot is taken, the next
+ * slot is tried, wrapping around at the end of the array. Because probes walk
+ * neighbouring array elements there is no pointer to chase per entry and no
+ * object header per entry, which makes lookups cache friendly.
+ */
+public class OpenAddressingHashTable {
+
+    // Default number of slots. Always a power of two.
+    private static final int DEFAULT_CAPACITY = 16;
+
+    // Default ratio of used slots (live entries plus tombstones) to capacity at
+    // which the table is rebuilt.
+    private static final float DEFAULT_LOAD_FACTOR = 0.5f;
+
+    // Largest slot array we will ever allocate.
+    private static final int MAXIMUM_CAPACITY = 1 << 30;
+
+    // Marker left in a slot whose entry was removed. Compared by identity, so it
+    // can never clash with a real key.
+    private static final String TOMBSTONE = new String("<deleted>");
+
+    // Keys of the entries. A null slot has never been used.
+    private String[] keys;
+
+    // Values of the entries, at the same index as their key.
+    private int[] values;
+
+    // Number of live entries.
+    private int count;
+
+    // Number of slots holding a TOMBSTONE.
+    private int tombstones;
+
+    // Ratio of used slots to capacity at which the table is rebuilt.
+    private final float loadFactor;
+
+    // Number of used slots at which the next rebuild happens.
+    private int threshold;
+
+    /**
+     * Default constructor. Initializes the table with the default capacity and
+     * load factor.
+     */
+    public OpenAddressingHashTable() {
+        this(DEFAULT_CAPACITY, DEFAULT_LOAD_FACTOR);
+    }
+
+    /**
+     * Constructs a table with the given initial capacity and load factor. The
+     * capacity is rounded up to the next power of two.
+     *
+     * @param initialCapacity The minimum number of slots to start with.
+     * @param loadFactor      The ratio of used slots to capacity at which the
+     *                        table is rebuilt. Must be between 0 and 1.
+     */
+    public OpenAddressingHashTable(int initialCapacity, float loadFactor) {
+        if (initialCapacity < 0) {
+            throw new IllegalArgumentException("Illegal initial capacity: " + initialCapacity);
+        }
+        if (!(loadFactor > 0 && loadFactor < 1)) {
+            throw new IllegalArgumentException("Illegal load factor: " + loadFactor);
+        }
+        this.loadFactor = loadFactor;
+        allocate(tableSizeFor(initialCapacity));
+    }
+
+    /**
+     * Rounds the requested capacity up to the next power of two, clamped to
+     * MAXIMUM_CAPACITY.
+     *
+     * @param capacity The requested number of slots.
+     * @return The smallest power of two greater than or equal to capacity.
+     */
+    private static int tableSizeFor(int capacity) {
+        if (capacity >= MAXIMUM_CAPACITY) {
+            return MAXIMUM_CAPACITY;
+        }
+        int n = 2;
+        while (n < capacity) {
+            n <<= 1;
+        }
+        return n;
+    }
+
+    /**
+     * Replaces the slot arrays with empty ones of the given capacity.
+     *
+     * @param capacity The new number of slots.
+     */
+    private void allocate(int capacity) {
+        keys = new String[capacity];
+        values = new int[capacity];
+        tombstones = 0;
+        threshold = Math.min((int) (capacity * loadFactor), capacity - 1);
+    }
+
+    /**
+     * Returns the number of entries stored in the table.
+     *
+     * @return The number of entries.
+     */
+    public int size() {
+        return count;
+    }
+
+    /**
+     * Returns the current number of slots in the table.
+     *
+     * @return The slot array length.
+     */
+    public int capacity() {
+        return keys.length;
+    }
+
+    /**
+     * Computes the home slot of a key using the same mixed hash as HashTable.
+     * Linear probing is sensitive to clustering, so a well-distributed hash
+     * matters even more here than for chaining.
+     *
+     * @param key The key for which the slot needs to be computed.
+     * @return The index of the first slot to probe.
+     */
+    private int hash(String key) {
+        return HashTable.hash(key) & (keys.length - 1);
+    }
+
+    /**
+     * Finds the slot holding the given key.
+     *
+     * @param key The key to look for.
+     * @return The slot index, or -1 if the key is not in the table.
+     */
+    private int indexOf(String key) {
+        int mask = keys.length - 1;
+        int index = hash(key);
+
+        // Probe until an empty slot ends the run. Tombstones keep the run going.
+        while (keys[index] != null) {
+            if (keys[index] != TOMBSTONE && keys[index].equals(key)) {
+                return index;
+            }
+            index = (index + 1) & mask;
+        }
+        return -1;
+    }
+
+    /**
+     * Inserts a key-value pair into the table, overwriting the value if the key
+     * is already present. The new entry reuses the first tombstone found along
+     * the probe run, if any.
+     *
+     * @param key   The key to be inserted.
+     * @param value The value associated with the key.
+     */
+    public void set(String key, int value) {
+        int mask = keys.length - 1;
+        int index = hash(key);
+        int firstTombstone = -1;
+
+        while (keys[index] != null) {
+            if (keys[index] == TOMBSTONE) {
+                if (firstTombstone == -1) {
+                    firstTombstone = index;
+                }
+            } else if (keys[index].equals(key)) {
+                // Key already present: update in place.
+                values[index] = value;
+                return;
+            }
+            index = (index + 1) & mask;
+        }
+
+        if (firstTombstone != -1) {
+            index = firstTombstone;
+            tombstones--;
+        }
+        keys[index] = key;
+        values[index] = value;
+        count++;
+
+        if (count + tombstones > threshold) {
+            rehash();
+        }
+    }
+
+    /**
+     * Retrieves the value associated with the provided key. If the key does not
+     * exist in the table, the method returns 0.
+     *
+     * @param key The key whose associated value needs to be returned.
+     * @return The value associated with the key if it exists, otherwise 0.
+     */
+    public int get(String key) {
+        int index = indexOf(key);
+        return index == -1 ? 0 : values[index];
+    }
+
+    /**
+     * Checks whether the table contains the given key.
+     *
+     * @param key The key to look for.
+     * @return true if the key is present, false otherwise.
+     */
+    public boolean containsKey(String key) {
+        return indexOf(key) != -1;
+    }
+
+    /**
+     * Removes the entry for the given key. The slot is replaced by a tombstone
+     * so that probe runs passing through it still reach the keys behind it.
+     *
+     * @param key The key to be removed.
+     * @return true if the key was present and removed, false otherwise.
+     */
+    public boolean remove(String key) {
+        int index = indexOf(key);
+        if (index == -1) {
+            return false;
+        }
+        keys[index] = TOMBSTONE;
+        values[index] = 0;
+        count--;
+        tombstones++;
+        return true;
+    }
+
+    /**
+     * Rebuilds the table, dropping all tombstones. The capacity doubles only
+     * when live entries alone would still exceed half the threshold; if the
+     * table is mostly tombstones it is rebuilt at the same size.
+     */
+    private void rehash() {
+        String[] oldKeys = keys;
+        int[] oldValues = values;
+
+        int capacity = oldKeys.length;
+        if (count >= threshold / 2 && capacity < MAXIMUM_CAPACITY) {
+            capacity *= 2;
+        }
+        allocate(capacity);
+
+        int mask = keys.length - 1;
+        for (int i = 0; i < oldKeys.length; i++) {
+            String key = oldKeys[i];
+            if (key != null && key != TOMBSTONE) {
+                // No duplicates or tombstones in the new arrays, so the first
+                // empty slot is the right one.
+                int index = hash(key);
+                while (keys[index] != null) {
+                    index = (index + 1) & mask;
+                }
+                keys[index] = key;
+                values[index] = oldValues[i];
+            }
+        }
+    }
+
+    /**
+     * Prints every occupied slot with its key-value pair. Tombstones are shown
+     * as "<deleted>".
+     */
+    public void printTable() {
+        for (int i = 0; i < keys.length; i++) {
+            if (keys[i] == TOMBSTONE) {
+                System.out.println(i + ": <deleted>");
+            } else if (keys[i] != null) {
+                System.out.println(i + ": {" + keys[i] + "= " + values[i] + "}");
+            }
+        }
+    }
+
+    /**
+     * Returns an ArrayList containing all the keys present in the table.
+     *
+     * @return ArrayList of all keys in the table.
+     */
+    public ArrayList<String> keys() {
+        ArrayList<String> allKeys = new ArrayList<>(count);
+        for (int i = 0; i < keys.length; i++) {
+            if (keys[i] != null && keys[i] != TOMBSTONE) {
+                allKeys.add(keys[i]);
+            }
+        }
+        return allKeys;
+    }
+
+}
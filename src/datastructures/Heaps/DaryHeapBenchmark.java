@@ -0,0 +1,63 @@
+package datastructures.Heaps;
+
+import java.util.Random;
+
+// Sweeps IntHeap arity (2, 4, 8) against heap size. Each run fills the heap,
+// then times a steady state of remove + insert pairs, which is where sinkDown
+// dominates. Sizes go up to 10M by default; pass a larger maximum (for example
+// 100000000, which needs about 1 GB of heap) as the first argument.
+public class DaryHeapBenchmark {
+
+    private static final int[] ARITIES = { 2, 4, 8 };
+    private static final int OPERATIONS = 2_000_000;
+
+    // Results are written here so the JIT cannot drop the work.
+    private static volatile long sink;
+
+    private static double run(int arity, int n, Random random) {
+        IntHeap heap = new IntHeap(n + 1, arity);
+        for (int i = 0; i < n; i++) {
+            heap.insert(random.nextInt());
+        }
+
+        // Pre-generate the values so the timed loop only measures the heap.
+        int[] values = new int[OPERATIONS];
+        for (int i = 0; i < OPERATIONS; i++) {
+            values[i] = random.nextInt();
+        }
+
+        long sum = 0;
+        long start = System.nanoTime();
+        for (int i = 0; i < OPERATIONS; i++) {
+            sum += heap.remove();
+            heap.insert(values[i]);
+        }
+        long elapsed = System.nanoTime() - start;
+        sink = sum;
+        return (double) elapsed / OPERATIONS;
+    }
+
+    public static void main(String[] args) {
+        long max = args.length > 0 ? Long.parseLong(args[0]) : 10_000_000L;
+        Random random = new Random(42);
+
+        // Warm up the JIT on a mid-sized heap for every arity.
+        for (int arity : ARITIES) {
+            run(arity, 100_000, random);
+        }
+
+        System.out.printf("%12s", "n");
+        for (int arity : ARITIES) {
+            System.out.printf("%12s", arity + "-ary");
+        }
+        System.out.println("   (ns per remove+insert)");
+
+        for (long n = 1_000; n <= max; n *= 10) {
+            System.out.printf("%,12d", n);
+            for (int arity : ARITIES) {
+                System.out.printf("%12.1f", run(arity, (int) n, random));
+            }
+            System.out.println();
+        }
+    }
+}
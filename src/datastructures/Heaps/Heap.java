@@ -2,19 +2,100 @@ package datastructures.Heaps;
 
 import java.util.List;
 import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Comparator;
 
-public class Heap {
+public class Heap<T> {
 
-    private List<Integer> heap;
+    // Set -Ddatastructures.heap.stats=true to count operations. The flag is a
+    // static final, so when it is off the JIT drops the counting code entirely.
+    private static final boolean STATS = Boolean.getBoolean("datastructures.heap.stats");
 
+    private static final int DEFAULT_CAPACITY = 10;
+
+    private ArrayList<T> heap;
+
+    // Capacity we have reserved in heap. Growth is done by hand in insert so
+    // that resizes can be counted.
+    private int capacity;
+
+    // Operation counters, only updated when STATS is on.
+    private long comparisons;
+    private long swaps;
+    private long siftUps;
+    private long siftUpLevels;
+    private long sinkDowns;
+    private long sinkDownLevels;
+    private int maxSiftDepth;
+    private long growths;
+    private int highWaterMark;
+
+    // Orders elements so that the one comparing greatest sits at the top.
+    private final Comparator<? super T> comparator;
+
+    // Max-heap by natural ordering. T must implement Comparable.
+    @SuppressWarnings("unchecked")
     public Heap() {
-        this.heap = new ArrayList<>();
+        this((Comparator<? super T>) Comparator.naturalOrder());
+    }
+
+    // Max-heap by the given comparator: the greatest element is removed first.
+    public Heap(Comparator<? super T> comparator) {
+        this.heap = new ArrayList<>(DEFAULT_CAPACITY);
+        this.capacity = DEFAULT_CAPACITY;
+        this.comparator = comparator;
+    }
+
+    // Builds a max-heap by natural ordering from all values at once in O(n).
+    @SuppressWarnings("unchecked")
+    public Heap(Collection<? extends T> values) {
+        this(values, (Comparator<? super T>) Comparator.naturalOrder());
+    }
+
+    // Builds a max-heap by the given comparator from all values at once in O(n).
+    public Heap(Collection<? extends T> values, Comparator<? super T> comparator) {
+        this.heap = new ArrayList<>(values);
+        this.capacity = heap.size();
+        this.comparator = comparator;
+        heapify();
+        if (STATS) {
+            highWaterMark = heap.size();
+        }
+    }
+
+    public static <T extends Comparable<? super T>> Heap<T> maxHeap() {
+        return new Heap<>(Comparator.<T>naturalOrder());
+    }
+
+    public static <T extends Comparable<? super T>> Heap<T> minHeap() {
+        return new Heap<>(Comparator.<T>reverseOrder());
+    }
+
+    public static <T> Heap<T> maxHeap(Comparator<? super T> comparator) {
+        return new Heap<>(comparator);
+    }
+
+    // Min-heap by the given comparator: the smallest element is removed first.
+    public static <T> Heap<T> minHeap(Comparator<? super T> comparator) {
+        return new Heap<>(comparator.reversed());
     }
 
-    public List<Integer> getHeap() {
+    public List<T> getHeap() {
         return new ArrayList<>(heap);
     }
 
+    public int size() {
+        return heap.size();
+    }
+
+    public boolean isEmpty() {
+        return heap.isEmpty();
+    }
+
+    public T peek() {
+        return heap.isEmpty() ? null : heap.get(0);
+    }
+
     private int leftChild(int index) {
         return 2 * index + 1;
     }
@@ -27,46 +108,180 @@ public class Heap {
         return (index - 1) / 2;
     }
 
+    // True if the element at index1 belongs above the element at index2.
+    private boolean above(int index1, int index2) {
+        if (STATS) {
+            comparisons++;
+        }
+        return comparator.compare(heap.get(index1), heap.get(index2)) > 0;
+    }
+
     private void swap(int index1, int index2) {
-        int temp = heap.get(index1);
+        if (STATS) {
+            swaps++;
+        }
+        T temp = heap.get(index1);
         heap.set(index1, heap.get(index2));
         heap.set(index2, temp);
+        moved(heap.get(index1), index1);
+        moved(temp, index2);
+    }
+
+    // Called whenever an element lands at a new position in the array.
+    // IndexedHeap overrides it to keep the positions in its handles current,
+    // so that both heaps share the sift code below.
+    void moved(T value, int index) {
+    }
+
+    T get(int index) {
+        return heap.get(index);
+    }
+
+    // Reserves room for at least minCapacity elements, growing by half again.
+    private void ensureCapacity(int minCapacity) {
+        if (minCapacity <= capacity) {
+            return;
+        }
+        capacity = Math.max(minCapacity, capacity + (capacity >> 1));
+        heap.ensureCapacity(capacity);
+        if (STATS) {
+            growths++;
+        }
     }
 
-    public void insert(int value) {
+    private void recordSize() {
+        if (heap.size() > highWaterMark) {
+            highWaterMark = heap.size();
+        }
+    }
+
+    private void recordDepth(int levels) {
+        if (levels > maxSiftDepth) {
+            maxSiftDepth = levels;
+        }
+    }
+
+    public void insert(T value) {
+        ensureCapacity(heap.size() + 1);
         heap.add(value);
-        int current = heap.size() - 1;
+        moved(value, heap.size() - 1);
+        siftUp(heap.size() - 1);
+        if (STATS) {
+            recordSize();
+        }
+    }
 
-        while (current > 0 && heap.get(current) > heap.get(parent(current))) {
-            swap(current, parent(current));
-            current = parent(current);
+    // Moves the element at index up to its place and returns where it ended.
+    int siftUp(int index) {
+        int levels = 0;
+        while (index > 0 && above(index, parent(index))) {
+            swap(index, parent(index));
+            index = parent(index);
+            levels++;
         }
+        if (STATS) {
+            siftUps++;
+            siftUpLevels += levels;
+            recordDepth(levels);
+        }
+        return index;
     }
 
-    private void sinkDown(int index) {
+    // Moves the element at index up or down to its place, after its priority
+    // changed in either direction.
+    void reposition(int index) {
+        if (siftUp(index) == index) {
+            sinkDown(index);
+        }
+    }
+
+    void sinkDown(int index) {
         int maxIndex = index;
+        int levels = 0;
         while (true) {
             int leftIndex = leftChild(index);
             int rightIndex = rightChild(index);
 
-            if (leftIndex < heap.size() && heap.get(leftIndex) > heap.get(maxIndex)) {
+            if (leftIndex < heap.size() && above(leftIndex, maxIndex)) {
                 maxIndex = leftIndex;
             }
 
-            if (rightIndex < heap.size() && heap.get(rightIndex) > heap.get(maxIndex)) {
+            if (rightIndex < heap.size() && above(rightIndex, maxIndex)) {
                 maxIndex = rightIndex;
             }
 
             if (maxIndex != index) {
                 swap(index, maxIndex);
                 index = maxIndex;
+                levels++;
             } else {
+                if (STATS) {
+                    sinkDowns++;
+                    sinkDownLevels += levels;
+                    recordDepth(levels);
+                }
                 return;
             }
         }
     }
 
-    public Integer remove() {
+    // Floyd's heapify: sink every parent from the last one up to the root. Most
+    // nodes are near the bottom and sink only a level or two, so this is O(n).
+    private void heapify() {
+        for (int i = 0; i < heap.size(); i++) {
+            moved(heap.get(i), i);
+        }
+        for (int i = parent(heap.size() - 1); i >= 0; i--) {
+            sinkDown(i);
+        }
+    }
+
+    // Adds all values. A batch at least as large as the heap is appended and
+    // the whole array heapified in O(n + m); a smaller one is inserted one by one
+    // in O(m log n).
+    public void addAll(Collection<? extends T> values) {
+        if (values.size() >= heap.size()) {
+            ensureCapacity(heap.size() + values.size());
+            heap.addAll(values);
+            heapify();
+            if (STATS) {
+                recordSize();
+            }
+        } else {
+            for (T value : values) {
+                insert(value);
+            }
+        }
+    }
+
+    // Removes the k top elements and returns them in removal order. Returns
+    // fewer if the heap runs out.
+    public List<T> removeTopK(int k) {
+        if (k < 0) {
+            throw new IllegalArgumentException("k must not be negative: " + k);
+        }
+        List<T> top = new ArrayList<>(Math.min(k, heap.size()));
+        while (top.size() < k && !heap.isEmpty()) {
+            top.add(remove());
+        }
+        return top;
+    }
+
+    // Replaces the top element and sinks the new one into place, returning the
+    // old top. One sift instead of the two that remove plus insert would cost.
+    public T replaceTop(T value) {
+        if (heap.isEmpty()) {
+            insert(value);
+            return null;
+        }
+        T top = heap.get(0);
+        heap.set(0, value);
+        moved(value, 0);
+        sinkDown(0);
+        return top;
+    }
+
+    public T remove() {
         if (heap.size() == 0) {
             return null;
         }
@@ -74,10 +289,46 @@ public class Heap {
             return heap.remove(0);
         }
 
-        int maxValue = heap.get(0);
-        heap.set(0, heap.remove(heap.size() - 1));
+        T maxValue = heap.get(0);
+        T last = heap.remove(heap.size() - 1);
+        heap.set(0, last);
+        moved(last, 0);
         sinkDown(0);
 
         return maxValue;
     }
-}
\ No newline at end of file
+
+    // Removes the element at any position. The last element fills the gap and
+    // may belong higher or lower than the one it replaces.
+    T removeAt(int index) {
+        T removed = heap.get(index);
+        T last = heap.remove(heap.size() - 1);
+        if (index < heap.size()) {
+            heap.set(index, last);
+            moved(last, index);
+            reposition(index);
+        }
+        return removed;
+    }
+
+    // Counters since construction or the last resetStats. All zero unless the
+    // datastructures.heap.stats property was set when Heap was loaded.
+    public HeapStats stats() {
+        return new HeapStats(STATS, comparisons, swaps, siftUps, siftUpLevels, sinkDowns, sinkDownLevels,
+                maxSiftDepth, growths, highWaterMark, heap.size(), capacity);
+    }
+
+    public void resetStats() {
+        comparisons = 0;
+        swaps = 0;
+        siftUps = 0;
+        siftUpLevels = 0;
+        sinkDowns = 0;
+        sinkDownLevels = 0;
+        maxSiftDepth = 0;
+        growths = 0;
+        if (STATS) {
+            highWaterMark = heap.size();
+        }
+    }
+}
@@ -0,0 +1,67 @@
+package datastructures.Heaps;
+
+import java.util.Random;
+
+// Times insert/remove cycles on Heap (List<Integer>) against IntHeap (int[]).
+public class HeapBenchmark {
+
+    private static final int WARMUP_ROUNDS = 5;
+    private static final int ROUNDS = 10;
+
+    // Results are written here so the JIT cannot drop the work.
+    private static volatile long sink;
+
+    private static long runHeap(int[] values) {
+        Heap<Integer> heap = new Heap<>();
+        for (int value : values) {
+            heap.insert(value);
+        }
+        long sum = 0;
+        for (int i = 0; i < values.length; i++) {
+            sum += heap.remove();
+        }
+        return sum;
+    }
+
+    private static long runIntHeap(int[] values) {
+        IntHeap heap = new IntHeap();
+        for (int value : values) {
+            heap.insert(value);
+        }
+        long sum = 0;
+        for (int i = 0; i < values.length; i++) {
+            sum += heap.remove();
+        }
+        return sum;
+    }
+
+    private interface Workload {
+        long run(int[] values);
+    }
+
+    // Returns the best time per operation in nanoseconds after warming up.
+    private static double time(Workload workload, int[] values) {
+        for (int i = 0; i < WARMUP_ROUNDS; i++) {
+            sink = workload.run(values);
+        }
+        long best = Long.MAX_VALUE;
+        for (int i = 0; i < ROUNDS; i++) {
+            long start = System.nanoTime();
+            sink = workload.run(values);
+            best = Math.min(best, System.nanoTime() - start);
+        }
+        return (double) best / (2L * values.length);
+    }
+
+    public static void main(String[] args) {
+        Random random = new Random(42);
+        for (int n : new int[] { 1_000, 100_000, 1_000_000 }) {
+            int[] values = new int[n];
+            for (int i = 0; i < n; i++) {
+                values[i] = random.nextInt();
+            }
+            System.out.printf("n=%,d  Heap: %.1f ns/op  IntHeap: %.1f ns/op%n",
+                    n, time(HeapBenchmark::runHeap, values), time(HeapBenchmark::runIntHeap, values));
+        }
+    }
+}
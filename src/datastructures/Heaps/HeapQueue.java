@@ -0,0 +1,44 @@
+package datastructures.Heaps;
+
+import java.util.Comparator;
+import java.util.NoSuchElementException;
+
+// LongPriorityQueue on top of the comparison-based Heap.
+public class HeapQueue<T> implements LongPriorityQueue<T> {
+
+    private static final class Entry<T> {
+        final long priority;
+        final T value;
+
+        Entry(long priority, T value) {
+            this.priority = priority;
+            this.value = value;
+        }
+    }
+
+    private final Heap<Entry<T>> heap = Heap.minHeap(Comparator.comparingLong((Entry<T> entry) -> entry.priority));
+
+    @Override
+    public void insert(long priority, T value) {
+        heap.insert(new Entry<>(priority, value));
+    }
+
+    @Override
+    public T remove() {
+        Entry<T> entry = heap.remove();
+        return entry == null ? null : entry.value;
+    }
+
+    @Override
+    public long peekPriority() {
+        if (heap.isEmpty()) {
+            throw new NoSuchElementException("Queue is empty");
+        }
+        return heap.peek().priority;
+    }
+
+    @Override
+    public int size() {
+        return heap.size();
+    }
+}
@@ -0,0 +1,110 @@
+package datastructures.Heaps;
+
+// Immutable snapshot of a Heap's operation counters, taken by Heap.stats().
+public final class HeapStats {
+
+    private final boolean enabled;
+    private final long comparisons;
+    private final long swaps;
+    private final long siftUps;
+    private final long siftUpLevels;
+    private final long sinkDowns;
+    private final long sinkDownLevels;
+    private final int maxSiftDepth;
+    private final long growths;
+    private final int highWaterMark;
+    private final int size;
+    private final int capacity;
+
+    HeapStats(boolean enabled, long comparisons, long swaps, long siftUps, long siftUpLevels, long sinkDowns,
+            long sinkDownLevels, int maxSiftDepth, long growths, int highWaterMark, int size, int capacity) {
+        this.enabled = enabled;
+        this.comparisons = comparisons;
+        this.swaps = swaps;
+        this.siftUps = siftUps;
+        this.siftUpLevels = siftUpLevels;
+        this.sinkDowns = sinkDowns;
+        this.sinkDownLevels = sinkDownLevels;
+        this.maxSiftDepth = maxSiftDepth;
+        this.growths = growths;
+        this.highWaterMark = highWaterMark;
+        this.size = size;
+        this.capacity = capacity;
+    }
+
+    // False if counting was switched off, in which case every counter is zero.
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    public long getComparisons() {
+        return comparisons;
+    }
+
+    public long getSwaps() {
+        return swaps;
+    }
+
+    // Number of inserts, each sifting its element up.
+    public long getSiftUps() {
+        return siftUps;
+    }
+
+    // Levels climbed by all sift-ups together.
+    public long getSiftUpLevels() {
+        return siftUpLevels;
+    }
+
+    // Number of sink-downs, from removes, replaceTop and heapify.
+    public long getSinkDowns() {
+        return sinkDowns;
+    }
+
+    // Levels descended by all sink-downs together.
+    public long getSinkDownLevels() {
+        return sinkDownLevels;
+    }
+
+    // Deepest single sift in either direction.
+    public int getMaxSiftDepth() {
+        return maxSiftDepth;
+    }
+
+    public double getAverageSiftUpDepth() {
+        return siftUps == 0 ? 0 : (double) siftUpLevels / siftUps;
+    }
+
+    public double getAverageSinkDownDepth() {
+        return sinkDowns == 0 ? 0 : (double) sinkDownLevels / sinkDowns;
+    }
+
+    // Times the backing array had to grow.
+    public long getGrowths() {
+        return growths;
+    }
+
+    // Largest size the heap has reached.
+    public int getHighWaterMark() {
+        return highWaterMark;
+    }
+
+    public int getSize() {
+        return size;
+    }
+
+    public int getCapacity() {
+        return capacity;
+    }
+
+    @Override
+    public String toString() {
+        if (!enabled) {
+            return "HeapStats[disabled]";
+        }
+        return "HeapStats[comparisons=" + comparisons + ", swaps=" + swaps
+                + ", siftUps=" + siftUps + ", siftUpLevels=" + siftUpLevels
+                + ", sinkDowns=" + sinkDowns + ", sinkDownLevels=" + sinkDownLevels
+                + ", maxSiftDepth=" + maxSiftDepth + ", growths=" + growths
+                + ", highWaterMark=" + highWaterMark + ", size=" + size + ", capacity=" + capacity + "]";
+    }
+}
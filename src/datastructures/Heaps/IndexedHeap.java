@@ -0,0 +1,140 @@
+package datastructures.Heaps;
+
+import java.util.Comparator;
+import java.util.NoSuchElementException;
+
+// Heap whose entries can be found again through the Handle returned by insert.
+// Each handle remembers its current position in the array (the position map),
+// so updating or removing an entry costs O(log n) instead of a linear search.
+public class IndexedHeap<T> {
+
+    public static final class Handle<T> {
+        private T value;
+
+        // Position in the heap array, or -1 once the entry has left the heap.
+        private int index;
+
+        private Handle(T value, int index) {
+            this.value = value;
+            this.index = index;
+        }
+
+        public T getValue() {
+            return value;
+        }
+
+        public boolean isInHeap() {
+            return index >= 0;
+        }
+    }
+
+    // The entries, ordered by their values so the greatest sits at the top.
+    // The sifting is Heap's own; its moved hook keeps each handle's index
+    // pointing at the entry's position in the array.
+    private final Heap<Handle<T>> heap;
+
+    // The key order as given by the caller, used to check decreaseKey.
+    private final Comparator<? super T> keyOrder;
+
+    private IndexedHeap(Comparator<? super T> keyOrder, boolean min) {
+        this.keyOrder = keyOrder;
+        Comparator<? super T> order = min ? keyOrder.reversed() : keyOrder;
+        this.heap = new Heap<Handle<T>>((handle1, handle2) -> order.compare(handle1.value, handle2.value)) {
+            @Override
+            void moved(Handle<T> handle, int index) {
+                handle.index = index;
+            }
+        };
+    }
+
+    public static <T> IndexedHeap<T> maxHeap(Comparator<? super T> comparator) {
+        return new IndexedHeap<>(comparator, false);
+    }
+
+    public static <T> IndexedHeap<T> minHeap(Comparator<? super T> comparator) {
+        return new IndexedHeap<>(comparator, true);
+    }
+
+    public static <T extends Comparable<? super T>> IndexedHeap<T> maxHeap() {
+        return new IndexedHeap<>(Comparator.<T>naturalOrder(), false);
+    }
+
+    public static <T extends Comparable<? super T>> IndexedHeap<T> minHeap() {
+        return new IndexedHeap<>(Comparator.<T>naturalOrder(), true);
+    }
+
+    public int size() {
+        return heap.size();
+    }
+
+    public boolean isEmpty() {
+        return heap.isEmpty();
+    }
+
+    public T peek() {
+        return heap.isEmpty() ? null : heap.peek().value;
+    }
+
+    public Handle<T> insert(T value) {
+        Handle<T> handle = new Handle<>(value, -1);
+        heap.insert(handle);
+        return handle;
+    }
+
+    public T remove() {
+        Handle<T> top = removeHandle();
+        return top == null ? null : top.value;
+    }
+
+    // Removes the top entry and returns its handle, so the entry can be moved
+    // to another heap with reinsert without invalidating the handle.
+    public Handle<T> removeHandle() {
+        Handle<T> top = heap.remove();
+        if (top != null) {
+            top.index = -1;
+        }
+        return top;
+    }
+
+    // Adds a handle that is not in any heap, such as one from removeHandle.
+    public void reinsert(Handle<T> handle) {
+        if (handle.index >= 0) {
+            throw new IllegalArgumentException("Handle is still in a heap");
+        }
+        heap.insert(handle);
+    }
+
+    public boolean contains(Handle<T> handle) {
+        return handle.index >= 0 && handle.index < heap.size() && heap.get(handle.index) == handle;
+    }
+
+    private void checkHandle(Handle<T> handle) {
+        if (!contains(handle)) {
+            throw new NoSuchElementException("Handle is not in this heap");
+        }
+    }
+
+    public T remove(Handle<T> handle) {
+        checkHandle(handle);
+        heap.removeAt(handle.index);
+        handle.index = -1;
+        return handle.value;
+    }
+
+    // Replaces the value of an entry and moves it up or down to its new place.
+    public void updatePriority(Handle<T> handle, T value) {
+        checkHandle(handle);
+        handle.value = value;
+        heap.reposition(handle.index);
+    }
+
+    // Lowers the key of an entry, as in Dijkstra. The new key must not be
+    // greater than the current one in the key order.
+    public void decreaseKey(Handle<T> handle, T value) {
+        checkHandle(handle);
+        if (keyOrder.compare(value, handle.value) > 0) {
+            throw new IllegalArgumentException("New key is greater than the current key");
+        }
+        updatePriority(handle, value);
+    }
+}
@@ -0,0 +1,131 @@
+package datastructures.Heaps;
+
+import java.util.Arrays;
+import java.util.NoSuchElementException;
+
+// Max-heap of ints kept in a plain int[] so inserts and removes never box.
+//
+// The arity is configurable. With 4 or 8 children per node, all children of a
+// node sit next to each other in one or two cache lines and the tree is half or
+// a third as deep, which pays off in sinkDown once the heap outgrows the cache.
+public class IntHeap {
+
+    private static final int DEFAULT_CAPACITY = 16;
+
+    private int[] heap;
+    private int size;
+
+    // Number of children per node.
+    private final int arity;
+
+    public IntHeap() {
+        this(DEFAULT_CAPACITY);
+    }
+
+    public IntHeap(int initialCapacity) {
+        this(initialCapacity, 2);
+    }
+
+    public IntHeap(int initialCapacity, int arity) {
+        if (initialCapacity < 0) {
+            throw new IllegalArgumentException("Illegal initial capacity: " + initialCapacity);
+        }
+        if (arity < 2) {
+            throw new IllegalArgumentException("Arity must be at least 2: " + arity);
+        }
+        this.heap = new int[Math.max(1, initialCapacity)];
+        this.arity = arity;
+    }
+
+    public int[] getHeap() {
+        return Arrays.copyOf(heap, size);
+    }
+
+    public int size() {
+        return size;
+    }
+
+    public boolean isEmpty() {
+        return size == 0;
+    }
+
+    public int arity() {
+        return arity;
+    }
+
+    private int firstChild(int index) {
+        return arity * index + 1;
+    }
+
+    private int parent(int index) {
+        return (index - 1) / arity;
+    }
+
+    // Grows by half again, so n inserts copy O(n) elements in total.
+    private void grow() {
+        int newCapacity = heap.length + (heap.length >> 1) + 1;
+        if (newCapacity < 0) {
+            newCapacity = Integer.MAX_VALUE - 8;
+        }
+        heap = Arrays.copyOf(heap, newCapacity);
+    }
+
+    public void insert(int value) {
+        if (size == heap.length) {
+            grow();
+        }
+
+        // Move parents down into the hole instead of swapping, then drop the
+        // value into its final slot once.
+        int current = size++;
+        while (current > 0 && value > heap[parent(current)]) {
+            heap[current] = heap[parent(current)];
+            current = parent(current);
+        }
+        heap[current] = value;
+    }
+
+    private void sinkDown(int index, int value) {
+        // Nodes past the last parent have no children; stopping there also keeps
+        // firstChild from overflowing on huge heaps.
+        int lastParent = size > 1 ? parent(size - 1) : -1;
+        while (index <= lastParent) {
+            int first = firstChild(index);
+            int end = Math.min(first + arity, size);
+
+            int child = first;
+            for (int i = first + 1; i < end; i++) {
+                if (heap[i] > heap[child]) {
+                    child = i;
+                }
+            }
+
+            if (value >= heap[child]) {
+                break;
+            }
+            heap[index] = heap[child];
+            index = child;
+        }
+        heap[index] = value;
+    }
+
+    public int peek() {
+        if (size == 0) {
+            throw new NoSuchElementException("Heap is empty");
+        }
+        return heap[0];
+    }
+
+    public int remove() {
+        if (size == 0) {
+            throw new NoSuchElementException("Heap is empty");
+        }
+
+        int maxValue = heap[0];
+        int last = heap[--size];
+        if (size > 0) {
+            sinkDown(0, last);
+        }
+        return maxValue;
+    }
+}
@@ -0,0 +1,22 @@
+package datastructures.Heaps;
+
+// Min-priority queue of values keyed by long priorities. Implemented by
+// HeapQueue (binary Heap), PairingHeap and RadixHeap so callers can swap the
+// engine without changing code.
+public interface LongPriorityQueue<T> {
+
+    void insert(long priority, T value);
+
+    // Removes and returns the value with the smallest priority, or null if the
+    // queue is empty.
+    T remove();
+
+    // Smallest priority in the queue. Throws NoSuchElementException if empty.
+    long peekPriority();
+
+    int size();
+
+    default boolean isEmpty() {
+        return size() == 0;
+    }
+}
@@ -0,0 +1,56 @@
+package datastructures.Heaps;
+
+import java.util.Random;
+import java.util.function.Supplier;
+
+// Runs the same monotone workload, shaped like Dijkstra on a random graph,
+// through every LongPriorityQueue engine: each removed priority p schedules a
+// few new elements at p plus a small random distance.
+public class LongPriorityQueueBenchmark {
+
+    private static final int OPERATIONS = 2_000_000;
+    private static final int FAN_OUT = 3;
+    private static final int MAX_DISTANCE = 1000;
+
+    private static volatile long sink;
+
+    private static long run(LongPriorityQueue<Integer> queue) {
+        Random random = new Random(42);
+        for (int i = 0; i < 1000; i++) {
+            queue.insert(random.nextInt(MAX_DISTANCE), i);
+        }
+
+        long start = System.nanoTime();
+        long previous = Long.MIN_VALUE;
+        long checksum = 0;
+        for (int i = 0; i < OPERATIONS && !queue.isEmpty(); i++) {
+            long priority = queue.peekPriority();
+            if (priority < previous) {
+                throw new IllegalStateException("Priorities came out of order");
+            }
+            previous = priority;
+            checksum += queue.remove();
+
+            if (queue.size() < OPERATIONS / 4) {
+                for (int j = 0; j < FAN_OUT; j++) {
+                    queue.insert(priority + random.nextInt(MAX_DISTANCE), i);
+                }
+            }
+        }
+        sink = checksum;
+        return (System.nanoTime() - start) / 1_000_000;
+    }
+
+    private static void measure(String name, Supplier<LongPriorityQueue<Integer>> engine) {
+        // First pass warms up the JIT.
+        run(engine.get());
+        System.out.println(name + run(engine.get()) + " ms");
+    }
+
+    public static void main(String[] args) {
+        measure("HeapQueue:   ", HeapQueue::new);
+        measure("PairingHeap: ", PairingHeap::new);
+        measure("RadixHeap:   ", RadixHeap::new);
+        System.out.println("checksum: " + sink);
+    }
+}
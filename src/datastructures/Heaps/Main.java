@@ -1,8 +1,10 @@
 package datastructures.Heaps;
 
+import java.util.Arrays;
+
 public class Main {
     public static void main(String[] args) {
-        Heap myHeap = new Heap();
+        Heap<Integer> myHeap = new Heap<>();
 
         myHeap.insert(95);
         myHeap.insert(75);
@@ -21,5 +23,54 @@ public class Main {
         myHeap.remove();
 
         System.out.println(myHeap.getHeap());
+
+        // Build a heap from a whole list at once and pop the three largest.
+        Heap<Integer> bulkHeap = new Heap<>(Arrays.asList(50, 95, 60, 75, 80, 55, 65));
+        System.out.println(bulkHeap.removeTopK(3));
+
+        // Min-heap of deadlines with a handle to reschedule one of them.
+        IndexedHeap<Integer> deadlines = IndexedHeap.minHeap();
+        deadlines.insert(30);
+        IndexedHeap.Handle<Integer> job = deadlines.insert(40);
+        deadlines.insert(20);
+        deadlines.decreaseKey(job, 10);
+
+        System.out.println(deadlines.remove());
+        System.out.println(deadlines.remove());
+
+        // Streaming top-3 and median of the last 3 values.
+        TopK<Integer> top3 = TopK.of(3);
+        SlidingMedian median = new SlidingMedian(3);
+        for (int value : new int[] { 5, 1, 9, 3, 7, 2 }) {
+            top3.offer(value);
+            median.add(value);
+        }
+        System.out.println(top3.results());
+        System.out.println(median.median());
+
+        // Same event queue on two engines; only the constructor changes.
+        for (LongPriorityQueue<String> events : Arrays.<LongPriorityQueue<String>>asList(new PairingHeap<>(), new RadixHeap<>())) {
+            events.insert(20, "retry");
+            events.insert(5, "connect");
+            events.insert(12, "send");
+            System.out.println(events.remove() + " " + events.remove() + " " + events.remove());
+
+            // Peeking does not raise the floor: after 30 is removed, 35 is still
+            // accepted even though 40 was peeked at first.
+            events.insert(30, "open");
+            events.remove();
+            events.insert(40, "flush");
+            events.peekPriority();
+            events.insert(35, "ack");
+            System.out.println(events.remove() + " " + events.remove());
+        }
+
+        // Timeouts on a timing wheel; the cancelled one never fires.
+        TimingWheel<String> timeouts = new TimingWheel<>();
+        timeouts.insert(100, "idle");
+        TimingWheel.Timer<String> request = timeouts.insert(30, "request");
+        timeouts.insert(5000, "session");
+        timeouts.remove(request);
+        timeouts.advance(1000, System.out::println);
     }
 }
@@ -0,0 +1,228 @@
+package datastructures.Heaps;
+
+import java.util.Comparator;
+import java.util.Objects;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.Condition;
+import java.util.concurrent.locks.ReentrantLock;
+
+// Thread-safe, relaxed priority queue for many producers and consumers.
+//
+// Elements are spread over several shards, each a Heap behind its own lock.
+// insert picks a random shard whose lock is free. remove looks at the tops of
+// two random shards and pops the better one (the "two-choice" rule), so
+// threads rarely meet on the same lock. The price is that remove returns an
+// element close to the top rather than exactly the top.
+//
+// Only take and the timed remove ever block. They park on a condition that
+// insert signals only while some consumer is actually waiting, so the
+// non-blocking paths share no lock or counter beyond a LongAdder for size.
+//
+// Ordering follows Heap: the element comparing greatest comes out first.
+public class MultiQueue<T> {
+
+    private static final int SHARDS_PER_THREAD = 2;
+
+    // Pops that find both picked shards empty or locked before falling back to
+    // scanning every shard.
+    private static final int RANDOM_ATTEMPTS = 8;
+
+    private static final class Shard<T> {
+        final ReentrantLock lock = new ReentrantLock();
+        final Heap<T> heap;
+
+        // Copy of heap.peek(), readable without the lock.
+        volatile T top;
+
+        Shard(Comparator<? super T> comparator) {
+            heap = new Heap<>(comparator);
+        }
+    }
+
+    private final Shard<T>[] shards;
+    private final Comparator<? super T> comparator;
+
+    // Number of elements.
+    private final LongAdder count = new LongAdder();
+
+    // Blocked consumers wait on notEmpty. waiters is only changed while
+    // holding waitLock, but insert reads it without the lock.
+    private final ReentrantLock waitLock = new ReentrantLock();
+    private final Condition notEmpty = waitLock.newCondition();
+    private volatile int waiters;
+
+    public MultiQueue(Comparator<? super T> comparator) {
+        this(comparator, SHARDS_PER_THREAD * Runtime.getRuntime().availableProcessors());
+    }
+
+    @SuppressWarnings("unchecked")
+    public MultiQueue(Comparator<? super T> comparator, int shardCount) {
+        if (shardCount < 2) {
+            throw new IllegalArgumentException("Need at least 2 shards: " + shardCount);
+        }
+        this.comparator = comparator;
+        this.shards = (Shard<T>[]) new Shard<?>[shardCount];
+        for (int i = 0; i < shardCount; i++) {
+            shards[i] = new Shard<>(comparator);
+        }
+    }
+
+    public static <T extends Comparable<? super T>> MultiQueue<T> maxQueue() {
+        return new MultiQueue<>(Comparator.<T>naturalOrder());
+    }
+
+    public static <T extends Comparable<? super T>> MultiQueue<T> minQueue() {
+        return new MultiQueue<>(Comparator.<T>reverseOrder());
+    }
+
+    // Number of elements, exact when no insert or remove is in flight.
+    public int size() {
+        return (int) count.sum();
+    }
+
+    public boolean isEmpty() {
+        return size() == 0;
+    }
+
+    public void insert(T value) {
+        Objects.requireNonNull(value, "value");
+        ThreadLocalRandom random = ThreadLocalRandom.current();
+        Shard<T> shard;
+        do {
+            shard = shards[random.nextInt(shards.length)];
+        } while (!shard.lock.tryLock());
+
+        try {
+            shard.heap.insert(value);
+            shard.top = shard.heap.peek();
+        } finally {
+            shard.lock.unlock();
+        }
+        count.increment();
+
+        // A consumer registers as a waiter before its last look at the shards,
+        // and top was published above, so either it sees the new element or
+        // this sees it waiting.
+        if (waiters > 0) {
+            waitLock.lock();
+            try {
+                notEmpty.signal();
+            } finally {
+                waitLock.unlock();
+            }
+        }
+    }
+
+    // Removes an element near the top, or returns null if the queue is empty.
+    public T remove() {
+        ThreadLocalRandom random = ThreadLocalRandom.current();
+        for (int attempt = 0; attempt < RANDOM_ATTEMPTS; attempt++) {
+            Shard<T> first = shards[random.nextInt(shards.length)];
+            Shard<T> second = shards[random.nextInt(shards.length)];
+            Shard<T> best = better(first, second);
+            if (best != null) {
+                T value = tryPop(best);
+                if (value != null) {
+                    return value;
+                }
+            }
+        }
+
+        // Few elements left: they may all sit in shards we keep missing. Lock
+        // each non-empty shard in turn, so null really means every shard was
+        // empty when we looked.
+        for (Shard<T> shard : shards) {
+            if (shard.top != null) {
+                T value = pop(shard);
+                if (value != null) {
+                    return value;
+                }
+            }
+        }
+        return null;
+    }
+
+    // Like remove, but waits up to the given time for an element to arrive.
+    public T remove(long timeout, TimeUnit unit) throws InterruptedException {
+        T value = remove();
+        if (value != null) {
+            return value;
+        }
+        long nanos = unit.toNanos(timeout);
+        waitLock.lockInterruptibly();
+        waiters++;
+        try {
+            while ((value = remove()) == null) {
+                if (nanos <= 0) {
+                    return null;
+                }
+                nanos = notEmpty.awaitNanos(nanos);
+            }
+            return value;
+        } finally {
+            waiters--;
+            waitLock.unlock();
+        }
+    }
+
+    // Removes an element near the top, waiting until one is available.
+    public T take() throws InterruptedException {
+        T value = remove();
+        if (value != null) {
+            return value;
+        }
+        waitLock.lockInterruptibly();
+        waiters++;
+        try {
+            while ((value = remove()) == null) {
+                notEmpty.await();
+            }
+            return value;
+        } finally {
+            waiters--;
+            waitLock.unlock();
+        }
+    }
+
+    private Shard<T> better(Shard<T> first, Shard<T> second) {
+        T top1 = first.top;
+        T top2 = second.top;
+        if (top1 == null) {
+            return top2 == null ? null : second;
+        }
+        if (top2 == null) {
+            return first;
+        }
+        return comparator.compare(top1, top2) >= 0 ? first : second;
+    }
+
+    private T tryPop(Shard<T> shard) {
+        if (!shard.lock.tryLock()) {
+            return null;
+        }
+        return popLocked(shard);
+    }
+
+    private T pop(Shard<T> shard) {
+        shard.lock.lock();
+        return popLocked(shard);
+    }
+
+    // Pops the top of a shard whose lock the caller holds, then releases it.
+    // Returns null if another consumer emptied the shard first.
+    private T popLocked(Shard<T> shard) {
+        try {
+            if (shard.heap.isEmpty()) {
+                return null;
+            }
+            T value = shard.heap.remove();
+            shard.top = shard.heap.peek();
+            count.decrement();
+            return value;
+        } finally {
+            shard.lock.unlock();
+        }
+    }
+}
@@ -0,0 +1,103 @@
+package datastructures.Heaps;
+
+import java.util.concurrent.atomic.AtomicIntegerArray;
+import java.util.concurrent.atomic.AtomicLong;
+
+// Runs producers and blocking consumers against a MultiQueue, checks that every
+// element comes out exactly once, and compares throughput with a single Heap
+// behind one lock.
+public class MultiQueueStress {
+
+    private static final int THREADS = Math.max(4, Runtime.getRuntime().availableProcessors());
+    private static final int PER_PRODUCER = 500_000;
+
+    private interface Queue {
+        void insert(int value);
+
+        int take() throws InterruptedException;
+    }
+
+    private static long run(Queue queue, AtomicIntegerArray seen) throws InterruptedException {
+        int producers = THREADS / 2;
+        int consumers = THREADS - producers;
+        int total = producers * PER_PRODUCER;
+        AtomicLong remaining = new AtomicLong(total);
+
+        Thread[] threads = new Thread[THREADS];
+        for (int p = 0; p < producers; p++) {
+            int base = p * PER_PRODUCER;
+            threads[p] = new Thread(() -> {
+                for (int i = 0; i < PER_PRODUCER; i++) {
+                    queue.insert(base + i);
+                }
+            });
+        }
+        for (int c = 0; c < consumers; c++) {
+            threads[producers + c] = new Thread(() -> {
+                try {
+                    while (remaining.getAndDecrement() > 0) {
+                        seen.incrementAndGet(queue.take());
+                    }
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+            });
+        }
+
+        long start = System.nanoTime();
+        for (Thread thread : threads) {
+            thread.start();
+        }
+        for (Thread thread : threads) {
+            thread.join();
+        }
+        return (System.nanoTime() - start) / 1_000_000;
+    }
+
+    public static void main(String[] args) throws InterruptedException {
+        int total = (THREADS / 2) * PER_PRODUCER;
+
+        MultiQueue<Integer> multiQueue = MultiQueue.minQueue();
+        AtomicIntegerArray seen = new AtomicIntegerArray(total);
+        long multiMillis = run(new Queue() {
+            public void insert(int value) {
+                multiQueue.insert(value);
+            }
+
+            public int take() throws InterruptedException {
+                return multiQueue.take();
+            }
+        }, seen);
+
+        for (int i = 0; i < total; i++) {
+            if (seen.get(i) != 1) {
+                throw new IllegalStateException("element " + i + " came out " + seen.get(i) + " times");
+            }
+        }
+        System.out.println("threads: " + THREADS + ", " + total + " elements, each taken exactly once");
+
+        // Baseline: one min-heap, one lock, consumers wait on the lock's monitor.
+        Heap<Integer> heap = Heap.minHeap();
+        Object lock = new Object();
+        long lockedMillis = run(new Queue() {
+            public void insert(int value) {
+                synchronized (lock) {
+                    heap.insert(value);
+                    lock.notify();
+                }
+            }
+
+            public int take() throws InterruptedException {
+                synchronized (lock) {
+                    while (heap.isEmpty()) {
+                        lock.wait();
+                    }
+                    return heap.remove();
+                }
+            }
+        }, new AtomicIntegerArray(total));
+
+        System.out.println("MultiQueue:  " + multiMillis + " ms");
+        System.out.println("locked Heap: " + lockedMillis + " ms");
+    }
+}
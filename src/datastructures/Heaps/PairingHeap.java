@@ -0,0 +1,120 @@
+package datastructures.Heaps;
+
+import java.util.NoSuchElementException;
+
+// Min pairing heap: a heap-ordered tree where every node keeps its children in
+// a linked list. insert and meld just link two roots, O(1). remove pairs up the
+// root's children left to right and then melds the pairs right to left, which
+// is O(log n) amortized.
+public class PairingHeap<T> implements LongPriorityQueue<T> {
+
+    private static final class Node<T> {
+        final long priority;
+        final T value;
+        Node<T> child;
+        Node<T> sibling;
+
+        Node(long priority, T value) {
+            this.priority = priority;
+            this.value = value;
+        }
+    }
+
+    private Node<T> root;
+    private int size;
+
+    // Links two trees, making the root with the larger priority the first child
+    // of the other.
+    private static <T> Node<T> link(Node<T> a, Node<T> b) {
+        if (a == null) {
+            return b;
+        }
+        if (b == null) {
+            return a;
+        }
+        if (b.priority < a.priority) {
+            Node<T> temp = a;
+            a = b;
+            b = temp;
+        }
+        b.sibling = a.child;
+        a.child = b;
+        a.sibling = null;
+        return a;
+    }
+
+    @Override
+    public void insert(long priority, T value) {
+        root = link(root, new Node<>(priority, value));
+        size++;
+    }
+
+    // Moves every element of other into this heap in O(1). other is left empty.
+    public void meld(PairingHeap<T> other) {
+        if (other == this) {
+            return;
+        }
+        root = link(root, other.root);
+        size += other.size;
+        other.root = null;
+        other.size = 0;
+    }
+
+    @Override
+    public T remove() {
+        if (root == null) {
+            return null;
+        }
+        T value = root.value;
+        root = combineSiblings(root.child);
+        size--;
+        return value;
+    }
+
+    // Two-pass pairing, done iteratively so long child lists cannot overflow
+    // the stack.
+    private Node<T> combineSiblings(Node<T> first) {
+        if (first == null) {
+            return null;
+        }
+
+        // First pass: link children in pairs, pushing each pair onto a stack
+        // threaded through the sibling pointers.
+        Node<T> pairs = null;
+        while (first != null) {
+            Node<T> a = first;
+            Node<T> b = a.sibling;
+            first = b == null ? null : b.sibling;
+            a.sibling = null;
+            if (b != null) {
+                b.sibling = null;
+            }
+            Node<T> pair = link(a, b);
+            pair.sibling = pairs;
+            pairs = pair;
+        }
+
+        // Second pass: meld the pairs from last to first.
+        Node<T> result = null;
+        while (pairs != null) {
+            Node<T> next = pairs.sibling;
+            pairs.sibling = null;
+            result = link(result, pairs);
+            pairs = next;
+        }
+        return result;
+    }
+
+    @Override
+    public long peekPriority() {
+        if (root == null) {
+            throw new NoSuchElementException("Queue is empty");
+        }
+        return root.priority;
+    }
+
+    @Override
+    public int size() {
+        return size;
+    }
+}
@@ -0,0 +1,154 @@
+package datastructures.Heaps;
+
+import java.util.Arrays;
+import java.util.NoSuchElementException;
+
+// Radix heap for monotone priorities: every inserted priority must be at least
+// the last one removed, as in Dijkstra or event simulation. There are no
+// comparisons between elements. Bucket i holds keys whose highest bit
+// differing from the last removed key is bit i - 1; bucket 0 holds
+// keys equal to it. remove empties bucket 0 first, and otherwise
+// redistributes the first non-empty bucket into lower ones, each element moving
+// down at most 64 times over its lifetime.
+//
+// Priorities are stored as keys with the sign bit flipped, so that comparing
+// keys as unsigned values orders priorities the same signed way as the other
+// LongPriorityQueue engines.
+public class RadixHeap<T> implements LongPriorityQueue<T> {
+
+    private static final int BUCKETS = 65;
+    private static final int INITIAL_BUCKET_CAPACITY = 4;
+
+    private final long[][] keys = new long[BUCKETS][];
+    private final Object[][] values = new Object[BUCKETS][];
+    private final int[] sizes = new int[BUCKETS];
+
+    // Key of the last removed element; no smaller key may be inserted. Starts at
+    // the key of Long.MIN_VALUE, so any first priority is accepted.
+    private long last;
+    private int size;
+
+    // Smallest key, found by peekPriority without moving `last`, so that
+    // peeking never raises the floor for later inserts. Valid while
+    // hasPeeked; kept up to date by insert and dropped by remove.
+    private long peeked;
+    private boolean hasPeeked;
+
+    public RadixHeap() {
+        for (int i = 0; i < BUCKETS; i++) {
+            keys[i] = new long[INITIAL_BUCKET_CAPACITY];
+            values[i] = new Object[INITIAL_BUCKET_CAPACITY];
+        }
+    }
+
+    // Maps a priority to its key and back.
+    private static long toKey(long priority) {
+        return priority ^ Long.MIN_VALUE;
+    }
+
+    private int bucketFor(long key) {
+        return key == last ? 0 : 64 - Long.numberOfLeadingZeros(key ^ last);
+    }
+
+    private void push(int bucket, long key, Object value) {
+        int n = sizes[bucket];
+        if (n == keys[bucket].length) {
+            keys[bucket] = Arrays.copyOf(keys[bucket], n * 2);
+            values[bucket] = Arrays.copyOf(values[bucket], n * 2);
+        }
+        keys[bucket][n] = key;
+        values[bucket][n] = value;
+        sizes[bucket] = n + 1;
+    }
+
+    @Override
+    public void insert(long priority, T value) {
+        long key = toKey(priority);
+        if (Long.compareUnsigned(key, last) < 0) {
+            throw new IllegalArgumentException(
+                    "Priority " + priority + " is below the last removed " + toKey(last));
+        }
+        push(bucketFor(key), key, value);
+        size++;
+        if (hasPeeked && Long.compareUnsigned(key, peeked) < 0) {
+            peeked = key;
+        }
+    }
+
+    // Makes bucket 0 non-empty by moving the smallest key into `last` and
+    // spreading the first non-empty bucket over the lower ones.
+    private void refill() {
+        if (sizes[0] > 0) {
+            return;
+        }
+        int bucket = 1;
+        while (sizes[bucket] == 0) {
+            bucket++;
+        }
+
+        long[] bucketKeys = keys[bucket];
+        Object[] bucketValues = values[bucket];
+        int n = sizes[bucket];
+
+        long min = bucketKeys[0];
+        for (int i = 1; i < n; i++) {
+            if (Long.compareUnsigned(bucketKeys[i], min) < 0) {
+                min = bucketKeys[i];
+            }
+        }
+        last = min;
+
+        sizes[bucket] = 0;
+        for (int i = 0; i < n; i++) {
+            push(bucketFor(bucketKeys[i]), bucketKeys[i], bucketValues[i]);
+            bucketValues[i] = null;
+        }
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public T remove() {
+        if (size == 0) {
+            return null;
+        }
+        refill();
+        hasPeeked = false;
+        int n = --sizes[0];
+        T value = (T) values[0][n];
+        values[0][n] = null;
+        size--;
+        return value;
+    }
+
+    @Override
+    public long peekPriority() {
+        if (size == 0) {
+            throw new NoSuchElementException("Queue is empty");
+        }
+        if (sizes[0] > 0) {
+            return toKey(last);
+        }
+        if (!hasPeeked) {
+            // The smallest key sits in the first non-empty bucket.
+            int bucket = 1;
+            while (sizes[bucket] == 0) {
+                bucket++;
+            }
+            long[] bucketKeys = keys[bucket];
+            long min = bucketKeys[0];
+            for (int i = 1; i < sizes[bucket]; i++) {
+                if (Long.compareUnsigned(bucketKeys[i], min) < 0) {
+                    min = bucketKeys[i];
+                }
+            }
+            peeked = min;
+            hasPeeked = true;
+        }
+        return toKey(peeked);
+    }
+
+    @Override
+    public int size() {
+        return size;
+    }
+}
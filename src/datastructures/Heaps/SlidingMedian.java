@@ -0,0 +1,72 @@
+package datastructures.Heaps;
+
+// Median of the last `window` values of a stream, using O(window) memory.
+//
+// The window is split between two heaps: a max-heap with the lower half and a
+// min-heap with the upper half, kept within one element of each other in size.
+// The median is then the top of the lower heap, or the mean of both tops. Each
+// value's IndexedHeap handle is kept in a ring buffer so the value leaving the
+// window can be removed from whichever heap holds it in O(log window).
+public class SlidingMedian {
+
+    private final IndexedHeap<Double> lower = IndexedHeap.maxHeap();
+    private final IndexedHeap<Double> upper = IndexedHeap.minHeap();
+
+    // Handles of the values in the window, oldest at position `next` once full.
+    private final IndexedHeap.Handle<Double>[] ring;
+    private int next;
+    private int count;
+
+    @SuppressWarnings("unchecked")
+    public SlidingMedian(int window) {
+        if (window <= 0) {
+            throw new IllegalArgumentException("Window must be positive: " + window);
+        }
+        ring = (IndexedHeap.Handle<Double>[]) new IndexedHeap.Handle<?>[window];
+    }
+
+    public int size() {
+        return count;
+    }
+
+    public void add(double value) {
+        if (count == ring.length) {
+            IndexedHeap.Handle<Double> expired = ring[next];
+            if (lower.contains(expired)) {
+                lower.remove(expired);
+            } else {
+                upper.remove(expired);
+            }
+            count--;
+        }
+
+        IndexedHeap.Handle<Double> handle;
+        if (lower.isEmpty() || value <= lower.peek()) {
+            handle = lower.insert(value);
+        } else {
+            handle = upper.insert(value);
+        }
+        ring[next] = handle;
+        next = (next + 1) % ring.length;
+        count++;
+
+        // Rebalance so lower holds the extra element when the count is odd.
+        while (lower.size() > upper.size() + 1) {
+            upper.reinsert(lower.removeHandle());
+        }
+        while (upper.size() > lower.size()) {
+            lower.reinsert(upper.removeHandle());
+        }
+    }
+
+    // NaN while no value has been added.
+    public double median() {
+        if (count == 0) {
+            return Double.NaN;
+        }
+        if (lower.size() > upper.size()) {
+            return lower.peek();
+        }
+        return (lower.peek() + upper.peek()) / 2;
+    }
+}
@@ -0,0 +1,207 @@
+package datastructures.Heaps;
+
+import java.util.function.Consumer;
+
+// Hierarchical timing wheel for timeouts, a drop-in for a min-heap of deadlines
+// when most timers are cancelled before they fire.
+//
+// Time is counted in ticks. Level 0 has one slot per tick for the next 64
+// ticks, level 1 one slot per 64 ticks, and so on. A timer goes into the level
+// of the highest bit in which its deadline differs from the current tick, so
+// insert and remove are O(1): no comparisons, just linking into a slot's list.
+// When the clock crosses a slot boundary on a higher level, that slot is
+// cascaded into the lower levels, each timer moving at most once per level.
+// A bitmap of occupied slots per level lets advance jump straight to the next
+// tick that has work, so idle stretches cost nothing.
+public class TimingWheel<T> {
+
+    private static final int SLOT_BITS = 6;
+    private static final int SLOTS = 1 << SLOT_BITS;
+    private static final int SLOT_MASK = SLOTS - 1;
+
+    // Enough levels to cover any non-negative long deadline.
+    private static final int LEVELS = (63 + SLOT_BITS - 1) / SLOT_BITS;
+
+    public static final class Timer<T> {
+        private final long deadline;
+        private final T value;
+
+        // Links within the slot's list, and the slot itself, or -1 once the
+        // timer has fired or been removed.
+        private Timer<T> prev;
+        private Timer<T> next;
+        private int slot = -1;
+
+        private Timer(long deadline, T value) {
+            this.deadline = deadline;
+            this.value = value;
+        }
+
+        public long getDeadline() {
+            return deadline;
+        }
+
+        public T getValue() {
+            return value;
+        }
+
+        public boolean isPending() {
+            return slot >= 0;
+        }
+    }
+
+    // Head of each slot's list, indexed by level * SLOTS + slot.
+    private final Timer<T>[] slots;
+
+    // Bit s of occupied[level] is set when that level's slot s is non-empty.
+    private final long[] occupied = new long[LEVELS];
+
+    private long currentTick;
+    private int size;
+
+    public TimingWheel() {
+        this(0);
+    }
+
+    @SuppressWarnings("unchecked")
+    public TimingWheel(long startTick) {
+        if (startTick < 0) {
+            throw new IllegalArgumentException("Start tick must not be negative: " + startTick);
+        }
+        this.currentTick = startTick;
+        this.slots = (Timer<T>[]) new Timer<?>[LEVELS * SLOTS];
+    }
+
+    public int size() {
+        return size;
+    }
+
+    public boolean isEmpty() {
+        return size == 0;
+    }
+
+    public long currentTick() {
+        return currentTick;
+    }
+
+    // Slot for a deadline at or after the current tick.
+    private int slotFor(long deadline) {
+        int level = (63 - Long.numberOfLeadingZeros(deadline ^ currentTick)) / SLOT_BITS;
+        return level * SLOTS + ((int) (deadline >>> (level * SLOT_BITS)) & SLOT_MASK);
+    }
+
+    private void link(Timer<T> timer, long deadline) {
+        int slot = slotFor(deadline);
+        Timer<T> head = slots[slot];
+        timer.prev = null;
+        timer.next = head;
+        if (head != null) {
+            head.prev = timer;
+        }
+        slots[slot] = timer;
+        timer.slot = slot;
+        occupied[slot >>> SLOT_BITS] |= 1L << (slot & SLOT_MASK);
+    }
+
+    private void unlink(Timer<T> timer) {
+        if (timer.prev != null) {
+            timer.prev.next = timer.next;
+        } else {
+            slots[timer.slot] = timer.next;
+            if (timer.next == null) {
+                occupied[timer.slot >>> SLOT_BITS] &= ~(1L << (timer.slot & SLOT_MASK));
+            }
+        }
+        if (timer.next != null) {
+            timer.next.prev = timer.prev;
+        }
+        timer.prev = null;
+        timer.next = null;
+        timer.slot = -1;
+    }
+
+    // Schedules value to fire at the given tick. A deadline that has already
+    // passed fires on the next advance.
+    public Timer<T> insert(long deadline, T value) {
+        Timer<T> timer = new Timer<>(deadline, value);
+        link(timer, Math.max(deadline, currentTick + 1));
+        size++;
+        return timer;
+    }
+
+    // Cancels a pending timer. Returns false if it already fired or was removed.
+    public boolean remove(Timer<T> timer) {
+        if (timer.slot < 0) {
+            return false;
+        }
+        unlink(timer);
+        size--;
+        return true;
+    }
+
+    // Moves the clock forward to now and hands every timer whose deadline has
+    // been reached to expired, one tick's batch at a time in deadline order.
+    // Returns the number of timers fired. expired may insert and remove timers.
+    public int advance(long now, Consumer<? super T> expired) {
+        int fired = 0;
+        while (currentTick < now) {
+            long next = size == 0 ? Long.MAX_VALUE : nextEventTick();
+            if (next > now) {
+                currentTick = now;
+                break;
+            }
+            currentTick = next;
+            cascade();
+
+            int slot = (int) currentTick & SLOT_MASK;
+            Timer<T> timer;
+            while ((timer = slots[slot]) != null) {
+                unlink(timer);
+                size--;
+                fired++;
+                expired.accept(timer.value);
+            }
+        }
+        return fired;
+    }
+
+    // First tick after the current one at which a level 0 slot fires or a higher
+    // slot must be cascaded. Every timer sits in a slot strictly ahead of the
+    // current position on its level, and a lower level's slots all come before
+    // a higher level's, so the lowest level with an occupied slot ahead wins.
+    private long nextEventTick() {
+        for (int level = 0; level < LEVELS; level++) {
+            int shift = level * SLOT_BITS;
+            int index = (int) (currentTick >>> shift) & SLOT_MASK;
+            long ahead = occupied[level] & (-2L << index);
+            if (ahead != 0) {
+                int blockShift = shift + SLOT_BITS;
+                long base = blockShift >= 64 ? 0 : currentTick >>> blockShift << blockShift;
+                return base + ((long) Long.numberOfTrailingZeros(ahead) << shift);
+            }
+        }
+        throw new IllegalStateException("Timers present but no slot is occupied");
+    }
+
+    // At a slot boundary, redistributes the higher-level slots that now cover
+    // the current tick, highest level first so timers can fall through several
+    // levels in one go.
+    private void cascade() {
+        int levels = 0;
+        while (levels + 1 < LEVELS && (currentTick & ((1L << ((levels + 1) * SLOT_BITS)) - 1)) == 0) {
+            levels++;
+        }
+        for (int level = levels; level > 0; level--) {
+            int slot = level * SLOTS + ((int) (currentTick >>> (level * SLOT_BITS)) & SLOT_MASK);
+            Timer<T> timer = slots[slot];
+            slots[slot] = null;
+            occupied[level] &= ~(1L << (slot & SLOT_MASK));
+            while (timer != null) {
+                Timer<T> next = timer.next;
+                // Overdue timers were parked on the tick after their insert.
+                link(timer, Math.max(timer.deadline, currentTick));
+                timer = next;
+            }
+        }
+    }
+}
@@ -0,0 +1,78 @@
+package datastructures.Heaps;
+
+import java.util.Random;
+
+// Connection-timeout workload: a fixed pool of connections each holds one
+// timeout. Activity on a connection cancels its timeout and schedules a new one,
+// so most timers never fire. Compares TimingWheel with an IndexedHeap of
+// deadlines, which needs handles for the same O(log n) cancel.
+public class TimingWheelBenchmark {
+
+    private static final int CONNECTIONS = 1_000_000;
+    private static final int OPERATIONS = 5_000_000;
+    private static final int TIMEOUT = 30_000;
+    private static final int OPERATIONS_PER_TICK = 100;
+
+    private static volatile long sink;
+
+    private static long runWheel() {
+        Random random = new Random(42);
+        TimingWheel<Integer> wheel = new TimingWheel<>();
+        @SuppressWarnings("unchecked")
+        TimingWheel.Timer<Integer>[] timers = (TimingWheel.Timer<Integer>[]) new TimingWheel.Timer<?>[CONNECTIONS];
+        for (int i = 0; i < CONNECTIONS; i++) {
+            timers[i] = wheel.insert(random.nextInt(TIMEOUT), i);
+        }
+
+        long start = System.nanoTime();
+        long fired = 0;
+        for (int op = 0; op < OPERATIONS; op++) {
+            int connection = random.nextInt(CONNECTIONS);
+            wheel.remove(timers[connection]);
+            timers[connection] = wheel.insert(wheel.currentTick() + TIMEOUT, connection);
+            if (op % OPERATIONS_PER_TICK == 0) {
+                fired += wheel.advance(wheel.currentTick() + 1, expired -> { });
+            }
+        }
+        sink = fired;
+        return (System.nanoTime() - start) / 1_000_000;
+    }
+
+    private static long runHeap() {
+        Random random = new Random(42);
+        IndexedHeap<Long> heap = IndexedHeap.minHeap();
+        @SuppressWarnings("unchecked")
+        IndexedHeap.Handle<Long>[] handles = (IndexedHeap.Handle<Long>[]) new IndexedHeap.Handle<?>[CONNECTIONS];
+        for (int i = 0; i < CONNECTIONS; i++) {
+            handles[i] = heap.insert((long) random.nextInt(TIMEOUT));
+        }
+
+        long start = System.nanoTime();
+        long now = 0;
+        long fired = 0;
+        for (int op = 0; op < OPERATIONS; op++) {
+            int connection = random.nextInt(CONNECTIONS);
+            if (heap.contains(handles[connection])) {
+                heap.remove(handles[connection]);
+            }
+            handles[connection] = heap.insert(now + TIMEOUT);
+            if (op % OPERATIONS_PER_TICK == 0) {
+                now++;
+                while (!heap.isEmpty() && heap.peek() <= now) {
+                    heap.remove();
+                    fired++;
+                }
+            }
+        }
+        sink = fired;
+        return (System.nanoTime() - start) / 1_000_000;
+    }
+
+    public static void main(String[] args) {
+        // First round warms up the JIT.
+        runWheel();
+        runHeap();
+        System.out.println("TimingWheel:  " + runWheel() + " ms, fired " + sink);
+        System.out.println("IndexedHeap:  " + runHeap() + " ms, fired " + sink);
+    }
+}
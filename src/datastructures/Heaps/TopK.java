@@ -0,0 +1,64 @@
+package datastructures.Heaps;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.List;
+
+// Keeps the k greatest elements seen in a stream, using O(k) memory.
+//
+// The kept elements sit in a min-heap of size k, so the smallest of them, the
+// admission threshold, is always on top. Once the heap is full a new element is
+// compared with the threshold and either dropped straight away (no allocation,
+// no heap change) or swapped in with a single sift via Heap.replaceTop.
+public class TopK<T> {
+
+    private final int k;
+    private final Comparator<? super T> comparator;
+
+    // Min-heap by comparator: the smallest kept element is on top.
+    private final Heap<T> heap;
+
+    public TopK(int k, Comparator<? super T> comparator) {
+        if (k <= 0) {
+            throw new IllegalArgumentException("k must be positive: " + k);
+        }
+        this.k = k;
+        this.comparator = comparator;
+        this.heap = Heap.minHeap(comparator);
+    }
+
+    public static <T extends Comparable<? super T>> TopK<T> of(int k) {
+        return new TopK<>(k, Comparator.<T>naturalOrder());
+    }
+
+    // Returns true if the value was kept.
+    public boolean offer(T value) {
+        if (heap.size() < k) {
+            heap.insert(value);
+            return true;
+        }
+        if (comparator.compare(value, heap.peek()) <= 0) {
+            return false;
+        }
+        heap.replaceTop(value);
+        return true;
+    }
+
+    // The smallest kept element: anything not greater than this is rejected
+    // once k elements are kept. Null while fewer than k have been seen.
+    public T threshold() {
+        return heap.size() < k ? null : heap.peek();
+    }
+
+    public int size() {
+        return heap.size();
+    }
+
+    // The kept elements, greatest first.
+    public List<T> results() {
+        List<T> results = new ArrayList<>(heap.getHeap());
+        results.sort(Collections.reverseOrder(comparator));
+        return results;
+    }
+}
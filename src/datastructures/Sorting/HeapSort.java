@@ -0,0 +1,46 @@
+package datastructures.Sorting;
+
+import java.util.Arrays;
+
+public class HeapSort {
+
+    public static void sinkDown(int[] array, int index, int size) {
+        int value = array[index];
+        while (true) {
+            int child = 2 * index + 1;
+            if (child >= size) {
+                break;
+            }
+            if (child + 1 < size && array[child + 1] > array[child]) {
+                child++;
+            }
+            if (value >= array[child]) {
+                break;
+            }
+            array[index] = array[child];
+            index = child;
+        }
+        array[index] = value;
+    }
+
+    public static void heapSort(int[] array) {
+        for (int i = array.length / 2 - 1; i >= 0; i--) {
+            sinkDown(array, i, array.length);
+        }
+        for (int end = array.length - 1; end > 0; end--) {
+            int temp = array[0];
+            array[0] = array[end];
+            array[end] = temp;
+            sinkDown(array, 0, end);
+        }
+    }
+
+    public static void main(String[] args) {
+
+        int[] myArray = { 4, 2, 6, 5, 1, 3 };
+
+        heapSort(myArray);
+
+        System.out.println(Arrays.toString(myArray));
+    }
+}
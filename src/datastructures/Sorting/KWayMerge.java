@@ -0,0 +1,68 @@
+package datastructures.Sorting;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.List;
+import java.util.PrimitiveIterator;
+import java.util.function.IntConsumer;
+
+import datastructures.Heaps.Heap;
+
+public class KWayMerge {
+
+    private static class Cursor {
+        final PrimitiveIterator.OfInt run;
+        int current;
+
+        Cursor(PrimitiveIterator.OfInt run) {
+            this.run = run;
+            this.current = run.nextInt();
+        }
+    }
+
+    public static void merge(List<PrimitiveIterator.OfInt> runs, IntConsumer output) {
+        Heap<Cursor> heap = Heap.minHeap(Comparator.comparingInt((Cursor cursor) -> cursor.current));
+        List<Cursor> cursors = new ArrayList<>(runs.size());
+        for (PrimitiveIterator.OfInt run : runs) {
+            if (run.hasNext()) {
+                cursors.add(new Cursor(run));
+            }
+        }
+        heap.addAll(cursors);
+
+        while (!heap.isEmpty()) {
+            Cursor smallest = heap.peek();
+            output.accept(smallest.current);
+            if (smallest.run.hasNext()) {
+                smallest.current = smallest.run.nextInt();
+                heap.replaceTop(smallest);
+            } else {
+                heap.remove();
+            }
+        }
+    }
+
+    public static int[] merge(int[]... runs) {
+        int length = 0;
+        List<PrimitiveIterator.OfInt> iterators = new ArrayList<>(runs.length);
+        for (int[] run : runs) {
+            length += run.length;
+            iterators.add(Arrays.stream(run).iterator());
+        }
+
+        int[] combined = new int[length];
+        int[] index = { 0 };
+        merge(iterators, value -> combined[index[0]++] = value);
+        return combined;
+    }
+
+    public static void main(String[] args) {
+
+        int[] run1 = { 1, 4, 7 };
+        int[] run2 = { 2, 5, 8, 9 };
+        int[] run3 = { 3, 6 };
+
+        System.out.println(Arrays.toString(merge(run1, run2, run3)));
+    }
+}